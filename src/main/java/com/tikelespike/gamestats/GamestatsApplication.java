@@ -2,6 +2,7 @@ package com.tikelespike.gamestats;
 
 import com.tikelespike.gamestats.businesslogic.entities.UserCreationRequest;
 import com.tikelespike.gamestats.businesslogic.entities.UserRole;
+import com.tikelespike.gamestats.businesslogic.services.StatService;
 import com.tikelespike.gamestats.businesslogic.services.UserService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
@@ -52,4 +53,17 @@ public class GamestatsApplication {
         };
     }
 
+    /**
+     * Upon application startup, check if player statistics have been stored already, and if not, compute them once from
+     * the complete game history. Afterward, they are maintained incrementally.
+     *
+     * @param statService the statistics service to use for computing and storing the player statistics
+     *
+     * @return a CommandLineRunner that will be executed on application startup
+     */
+    @Bean
+    CommandLineRunner initPlayerStatistics(StatService statService) {
+        return args -> statService.rebuildPlayerStatisticsIfMissing();
+    }
+
 }
@@ -10,7 +10,8 @@ import org.springframework.web.servlet.ModelAndView;
 /**
  * Interceptor that adds an artificial delay to the request processing (before and after calling the controller). This
  * is used for testing purposes (for example, visualizing the frontend behavior when the backend is slow). The amount of
- * delay is configurable via the application properties and environment variables.
+ * delay is configurable via the application properties and environment variables. The delay does not hold any lock, so
+ * when requests are handled on virtual threads, a delayed request does not block a carrier thread.
  */
 @Component
 public class ArtificialDelayInterceptor implements HandlerInterceptor {
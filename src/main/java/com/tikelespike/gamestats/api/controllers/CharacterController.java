@@ -7,9 +7,11 @@ import com.tikelespike.gamestats.api.validation.ValidationResult;
 import com.tikelespike.gamestats.api.validation.ValidationUtils;
 import com.tikelespike.gamestats.businesslogic.entities.Character;
 import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.exceptions.ResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
 import com.tikelespike.gamestats.businesslogic.services.CharacterService;
+import com.tikelespike.gamestats.businesslogic.services.RevisionService;
 import com.tikelespike.gamestats.common.Mapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -18,6 +20,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -48,6 +52,7 @@ public class CharacterController {
     private final CharacterService characterService;
     private final Mapper<CharacterCreationRequest, CharacterCreationDTO> creationMapper;
     private final Mapper<Character, CharacterDTO> characterMapper;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new character controller. This is usually done by the Spring framework, which manages the controller's
@@ -58,13 +63,16 @@ public class CharacterController {
      *         representation
      * @param characterMapper the mapper for converting between character business objects and their JSON
      *         representation
+     * @param revisionService keeps track of changes to the characters
      */
     public CharacterController(CharacterService characterService,
                                Mapper<CharacterCreationRequest, CharacterCreationDTO> creationMapper,
-                               Mapper<Character, CharacterDTO> characterMapper) {
+                               Mapper<Character, CharacterDTO> characterMapper,
+                               RevisionService revisionService) {
         this.characterService = characterService;
         this.creationMapper = creationMapper;
         this.characterMapper = characterMapper;
+        this.revisionService = revisionService;
     }
 
     /**
@@ -124,18 +132,26 @@ public class CharacterController {
     /**
      * Retrieves all characters.
      *
+     * @param request the current request, used to evaluate the If-None-Match header
+     *
      * @return a REST response entity containing all characters currently known to the system
      */
     @Operation(
             summary = "Retrieves all characters",
             description = "Retrieves a list of all characters registered in the system and available for use in "
-                    + "scripts and games."
+                    + "scripts and games. The response contains an ETag header, which can be sent in the "
+                    + "If-None-Match header of subsequent requests to only retrieve the characters if they have "
+                    + "changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "Retrieval successful. The response body contains the list of characters",
                     content = {@Content(array = @ArraySchema(schema = @Schema(implementation = CharacterDTO.class)))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The list of characters did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
             ), @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
@@ -154,11 +170,14 @@ public class CharacterController {
             )}
     )
     @GetMapping()
-    public ResponseEntity<Object> getCharacters() {
-        List<Character> characters = characterService.getAllCharacters();
+    public ResponseEntity<Object> getCharacters(WebRequest request) {
+        long revision = revisionService.getRevision(ResourceCollection.CHARACTERS);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.CHARACTERS, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
-        List<CharacterDTO> transferObjects = characters.stream().map(characterMapper::toTransferObject).toList();
-        return ResponseEntity.ok(transferObjects);
+        return ResponseEntity.ok(new StreamedJsonArray<CharacterDTO>(write -> characterService.forEachCharacter(
+                character -> write.accept(characterMapper.toTransferObject(character)))));
     }
 
     /**
@@ -0,0 +1,30 @@
+package com.tikelespike.gamestats.api.controllers;
+
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
+
+import java.util.Locale;
+
+/**
+ * Computes strong HTTP entity tags (ETags) for REST representations of resources. As the revision of a resource
+ * collection changes with every change to one of its resources, a representation derived only from the resources of a
+ * collection is identified by the collection and its revision. The tag can thus be computed and compared before any
+ * resource is loaded.
+ */
+final class EntityTags {
+
+    private EntityTags() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Computes the entity tag of a representation derived from the given revision of a resource collection.
+     *
+     * @param collection the collection the represented resources belong to (may not be null)
+     * @param revision the revision of the collection the representation is derived from
+     *
+     * @return the quoted, strong entity tag of the representation
+     */
+    static String ofRevision(ResourceCollection collection, long revision) {
+        return "\"" + collection.name().toLowerCase(Locale.ROOT) + "-" + revision + "\"";
+    }
+}
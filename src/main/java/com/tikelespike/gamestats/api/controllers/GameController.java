@@ -1,16 +1,37 @@
 package com.tikelespike.gamestats.api.controllers;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tikelespike.gamestats.api.entities.AlignmentDTO;
 import com.tikelespike.gamestats.api.entities.ErrorEntity;
 import com.tikelespike.gamestats.api.entities.GameCreationDTO;
 import com.tikelespike.gamestats.api.entities.GameDTO;
+import com.tikelespike.gamestats.api.entities.GameImportResultDTO;
+import com.tikelespike.gamestats.api.mapper.ExportedGameMapper;
+import com.tikelespike.gamestats.api.mapper.GameCreationRequestMapper;
+import com.tikelespike.gamestats.api.mapper.GameReferenceResolver;
+import com.tikelespike.gamestats.api.mapper.GameReferences;
 import com.tikelespike.gamestats.api.validation.ValidationResult;
 import com.tikelespike.gamestats.api.validation.ValidationUtils;
+import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGamePage;
 import com.tikelespike.gamestats.businesslogic.entities.Game;
 import com.tikelespike.gamestats.businesslogic.entities.GameCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.GameFilter;
+import com.tikelespike.gamestats.businesslogic.entities.GameImportResult;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.ResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
+import com.tikelespike.gamestats.businesslogic.services.GameExportService;
 import com.tikelespike.gamestats.businesslogic.services.GameService;
+import com.tikelespike.gamestats.businesslogic.services.RevisionService;
 import com.tikelespike.gamestats.common.Mapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -19,8 +40,15 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,10 +56,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for managing games. A game represents a single playthrough of Blood on the Clocktower with a specific
@@ -46,23 +82,58 @@ import java.util.List;
 public class GameController {
     private static final String API_PATH = "/api/v1/games";
     private static final String API_PATH_WITH_SUBPATH = API_PATH + "/";
+    /**
+     * Name of the response header containing the cursor to retrieve the next page of games.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+    private static final String GZIP_ENCODING = "gzip";
+    private static final int IMPORT_CHUNK_SIZE = 100;
     private final GameService gameService;
+    private final GameExportService exportService;
     private final Mapper<Game, GameDTO> gameMapper;
-    private final Mapper<GameCreationRequest, GameCreationDTO> creationMapper;
+    private final ExportedGameMapper exportMapper;
+    private final GameCreationRequestMapper creationMapper;
+    private final GameReferenceResolver referenceResolver;
+    private final Mapper<Alignment, AlignmentDTO> alignmentMapper;
+    private final RevisionService revisionService;
+    private final ObjectWriter exportWriter;
+    private final ObjectReader importReader;
 
     /**
      * Creates a new GameController. This is usually done by the Spring framework, which manages the controller's
      * lifecycle and injects the required dependencies.
      *
      * @param gameService the business layer game service to use for managing games. May not be null.
+     * @param exportService the business layer service to use for exporting all games. May not be null.
      * @param gameMapper maps between game business objects and their REST representations
+     * @param exportMapper maps exported and listed games to their REST representations
      * @param creationMapper maps between game creation requests and their REST representations
+     * @param referenceResolver resolves the players and characters referenced by imported games
+     * @param alignmentMapper maps between alignments and their REST representations
+     * @param revisionService keeps track of changes to the games
+     * @param objectMapper used to write the exported games and read the imported games as JSON
      */
-    public GameController(GameService gameService, Mapper<Game, GameDTO> gameMapper,
-                          Mapper<GameCreationRequest, GameCreationDTO> creationMapper) {
+    public GameController(GameService gameService, GameExportService exportService,
+                          Mapper<Game, GameDTO> gameMapper, ExportedGameMapper exportMapper,
+                          GameCreationRequestMapper creationMapper, GameReferenceResolver referenceResolver,
+                          Mapper<Alignment, AlignmentDTO> alignmentMapper, RevisionService revisionService,
+                          ObjectMapper objectMapper) {
         this.gameService = gameService;
+        this.exportService = exportService;
         this.gameMapper = gameMapper;
+        this.exportMapper = exportMapper;
         this.creationMapper = creationMapper;
+        this.referenceResolver = referenceResolver;
+        this.alignmentMapper = alignmentMapper;
+        this.revisionService = revisionService;
+        // the export stream is flushed once at the end, not after every game. A failed export must not be closed
+        // like a complete one (by finishing the gzip stream or completing a partially written game).
+        this.exportWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        this.importReader = objectMapper.readerFor(GameCreationDTO.class);
     }
 
     /**
@@ -127,19 +198,201 @@ public class GameController {
     }
 
     /**
-     * Retrieves all games.
+     * Creates multiple games at once, for example to import historical games. The games are read from the request body
+     * and created in chunks of {@value #IMPORT_CHUNK_SIZE}, each chunk within its own transaction. Games that are
+     * invalid or reference resources that do not exist are rejected without affecting the other games. If a chunk
+     * cannot be stored, its games are stored one by one, so that only the games that fail are rejected.
+     *
+     * @param request the request, the body of which contains the games to create, either as a JSON array or as
+     *         newline-delimited JSON
+     *
+     * @return a REST response entity containing the result of each game, in the order of the request body
+     * @throws IOException if reading the request body fails
+     */
+    @Operation(
+            summary = "Creates multiple games",
+            description = "Creates a batch of games of Blood on the Clocktower, for example to import historical "
+                    + "games. The request body contains the games in the same representation as accepted when creating "
+                    + "a single game, either as a JSON array (Content-Type: application/json) or as newline-delimited "
+                    + "JSON (Content-Type: application/x-ndjson). Each game is validated on its own, and invalid games "
+                    + "are reported in the response without affecting the other games. If the request body is not "
+                    + "well-formed JSON, the import stops at the malformed game, but the games before it are still "
+                    + "created."
+    )
+    @ApiResponses(
+            value = {@ApiResponse(
+                    responseCode = "200",
+                    description = "Import processed. The response body contains the result of each game in the order "
+                            + "of the request body: either the id of the created game or the reason it was rejected.",
+                    content = {@Content(
+                            array = @ArraySchema(schema = @Schema(implementation = GameImportResultDTO.class))
+                    )}
+            ), @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
+                            + "again.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden. You do not have the necessary permissions to perform this request. "
+                            + "Please sign in with an account that has the necessary permissions.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error. Please try again later. If the issue persists, contact "
+                            + "the system administrator or development team.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            )}
+    )
+    @PreAuthorize("hasAuthority('STORYTELLER')")
+    @PostMapping(value = "/batch", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Object> importGames(HttpServletRequest request) throws IOException {
+        List<GameImportResultDTO> results = new ArrayList<>();
+        List<GameCreationDTO> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        // a top-level JSON array is iterated element by element, just like a sequence of newline-delimited values
+        try (MappingIterator<GameCreationDTO> games = importReader.readValues(request.getInputStream())) {
+            while (readNextGame(games, chunk, results)) {
+                if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                    importChunk(chunk, results);
+                    chunk.clear();
+                }
+            }
+        }
+        importChunk(chunk, results);
+        return ResponseEntity.ok(results);
+    }
+
+    // adds the next game to the chunk (or its rejection to the results), returns false if no more games can be read
+    private boolean readNextGame(MappingIterator<GameCreationDTO> games, List<GameCreationDTO> chunk,
+                                 List<GameImportResultDTO> results) throws IOException {
+        int index = results.size() + chunk.size();
+        try {
+            if (!games.hasNextValue()) {
+                return false;
+            }
+            GameCreationDTO game = games.nextValue();
+            if (game == null) {
+                flushRejection(chunk, results, GameImportResultDTO.rejected(index, "The game may not be null"));
+            } else {
+                chunk.add(game);
+            }
+            return true;
+        } catch (DatabindException e) {
+            // the iterator skips the rest of the invalid game, so the following games can still be read
+            flushRejection(chunk, results, GameImportResultDTO.rejected(index, e.getOriginalMessage()));
+            return true;
+        } catch (JsonProcessingException e) {
+            flushRejection(chunk, results,
+                    GameImportResultDTO.rejected(index, "Malformed JSON: " + e.getOriginalMessage()));
+            return false;
+        }
+    }
+
+    // rejections are only added after the games read before them, so that the results stay in order
+    private void flushRejection(List<GameCreationDTO> chunk, List<GameImportResultDTO> results,
+                                GameImportResultDTO rejection) {
+        importChunk(chunk, results);
+        chunk.clear();
+        results.add(rejection);
+    }
+
+    private void importChunk(List<GameCreationDTO> chunk, List<GameImportResultDTO> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        int firstIndex = results.size();
+        GameImportResultDTO[] chunkResults = new GameImportResultDTO[chunk.size()];
+        List<GameCreationRequest> requests = new ArrayList<>();
+        List<Integer> requestPositions = new ArrayList<>();
+
+        GameReferences references = referenceResolver.resolveAll(chunk);
+        for (int i = 0; i < chunk.size(); i++) {
+            GameCreationDTO game = chunk.get(i);
+            ValidationResult validation = game.validate();
+            if (!validation.isValid()) {
+                chunkResults[i] = GameImportResultDTO.rejected(firstIndex + i, validation.getMessage());
+                continue;
+            }
+            try {
+                requests.add(creationMapper.toBusinessObject(game, references));
+                requestPositions.add(i);
+            } catch (RelatedResourceNotFoundException | IllegalArgumentException e) {
+                chunkResults[i] = GameImportResultDTO.rejected(firstIndex + i, e.getMessage());
+            }
+        }
+
+        if (!requests.isEmpty()) {
+            try {
+                List<GameImportResult> created = gameService.createGames(requests);
+                for (int i = 0; i < created.size(); i++) {
+                    int position = requestPositions.get(i);
+                    chunkResults[position] = toImportResult(firstIndex + position, created.get(i));
+                }
+            } catch (IllegalArgumentException | DataAccessException | TransactionException e) {
+                // the whole chunk was rolled back, so each game is stored on its own to find out which one failed
+                for (int i = 0; i < requests.size(); i++) {
+                    int position = requestPositions.get(i);
+                    chunkResults[position] = importSingleGame(firstIndex + position, requests.get(i));
+                }
+            }
+        }
+        results.addAll(List.of(chunkResults));
+    }
+
+    private GameImportResultDTO importSingleGame(int index, GameCreationRequest request) {
+        try {
+            return toImportResult(index, gameService.createGames(List.of(request)).getFirst());
+        } catch (IllegalArgumentException e) {
+            return GameImportResultDTO.rejected(index, e.getMessage());
+        } catch (DataAccessException | TransactionException e) {
+            // for example a constraint violation or a lock conflict with a concurrent change
+            return GameImportResultDTO.rejected(index, "The game could not be stored. Please try again later.");
+        }
+    }
+
+    private static GameImportResultDTO toImportResult(int index, GameImportResult result) {
+        return result.isCreated()
+                ? GameImportResultDTO.created(index, result.game().getId())
+                : GameImportResultDTO.rejected(index, result.error());
+    }
+
+    /**
+     * Retrieves games, optionally filtered and paginated. Pagination uses a cursor (the id of the last game of the
+     * previous page), which is returned in the {@value #NEXT_CURSOR_HEADER} header if there are more games.
      *
-     * @return a REST response entity containing all games currently known to the system
+     * @param after cursor of the previous page (only games with a greater id are returned), or null for the first
+     *         page
+     * @param limit maximum number of games to return, or null to return all (matching) games
+     * @param scriptId only return games played with the script with this id, if given
+     * @param playerId only return games the player with this id took part in (as participant or storyteller), if
+     *         given
+     * @param winningAlignment only return games won by this alignment, if given
+     * @param request the current request, used to evaluate the If-None-Match header
+     *
+     * @return a REST response entity containing the (matching) games on the requested page
      */
     @Operation(
-            summary = "Retrieves all games",
-            description = "Retrieves a list of all games registered in the system."
+            summary = "Retrieves games",
+            description = "Retrieves a list of games registered in the system, ordered by ascending id. The games can "
+                    + "be filtered by script, player and winning alignment. If a limit is given, at most that many "
+                    + "games are returned, and if there are more, the response contains the header "
+                    + NEXT_CURSOR_HEADER + ". Its value has to be passed as the 'after' parameter to retrieve the next "
+                    + "page. The response contains an ETag header, which can be sent in the If-None-Match header of "
+                    + "subsequent requests to only retrieve the games if they have changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "Retrieval successful. The response body contains the list of games",
                     content = {@Content(array = @ArraySchema(schema = @Schema(implementation = GameDTO.class)))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The requested page of games did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
+            ), @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request. The response body contains an error message.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
             ), @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
@@ -158,11 +411,149 @@ public class GameController {
             )}
     )
     @GetMapping()
-    public ResponseEntity<Object> getGames() {
-        List<Game> games = gameService.getAllGames();
+    public ResponseEntity<Object> getGames(@RequestParam(name = "after", required = false) Long after,
+                                           @RequestParam(name = "limit", required = false) Integer limit,
+                                           @RequestParam(name = "scriptId", required = false) Long scriptId,
+                                           @RequestParam(name = "playerId", required = false) Long playerId,
+                                           @RequestParam(name = "winningAlignment", required = false)
+                                           AlignmentDTO winningAlignment, WebRequest request) {
+        if (limit != null && (limit <= 0 || limit > MAX_PAGE_SIZE)) {
+            return ValidationUtils.requestInvalid("Limit must be between 1 and " + MAX_PAGE_SIZE, API_PATH);
+        }
+
+        long revision = revisionService.getRevision(ResourceCollection.GAMES);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.GAMES, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        // the representation only contains ids, so the games are read as such instead of being loaded with the
+        // players, characters and scripts they reference
+        GameFilter filter = new GameFilter(scriptId, playerId, alignmentMapper.toBusinessObject(winningAlignment));
+        if (limit == null) {
+            // all (matching) games are requested, so they are written while being loaded instead of collected first
+            return ResponseEntity.ok(new StreamedJsonArray<GameDTO>(write -> gameService.forEachExportedGame(filter,
+                    after, game -> write.accept(exportMapper.toTransferObject(game)))));
+        }
+
+        ExportedGamePage page = gameService.getExportedGames(filter, after, limit);
+
+        List<GameDTO> transferObjects = page.games().stream().map(exportMapper::toTransferObject).toList();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor().toString());
+        }
+        return response.body(transferObjects);
+    }
 
-        List<GameDTO> transferObjects = games.stream().map(gameMapper::toTransferObject).toList();
-        return ResponseEntity.ok(transferObjects);
+    /**
+     * Exports all games as newline-delimited JSON (one game per line), compressed with gzip if the client accepts it.
+     * The games are written while they are read from the database, so the export does not need to hold all games in
+     * memory. If the export fails after the response has been committed, the exception is propagated without
+     * completing the body (in particular without the gzip trailer), so the connection is aborted and the client can
+     * tell the export is incomplete.
+     *
+     * @param request the request, whose Accept-Encoding header determines whether the export is compressed
+     * @param response the response to write the exported games to
+     *
+     * @throws IOException if writing the response fails
+     */
+    @Operation(
+            summary = "Exports all games",
+            description = "Exports all games registered in the system, ordered by ascending id, as newline-delimited "
+                    + "JSON. Each line contains a single game in the same representation as returned by the other "
+                    + "game endpoints. As the export is intended for bulk downloads of the complete game history, "
+                    + "it is compressed with gzip (Content-Encoding: gzip) whenever the Accept-Encoding header of "
+                    + "the request allows it. If the export fails midway, the connection is closed without "
+                    + "completing the response."
+    )
+    @ApiResponses(
+            value = {@ApiResponse(
+                    responseCode = "200",
+                    description = "Export successful. The response body contains one game per line.",
+                    content = {@Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = GameDTO.class)
+                    )}
+            ), @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
+                            + "again.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden. You do not have the necessary permissions to perform this request. "
+                            + "Please sign in with an account that has the necessary permissions.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error. Please try again later. If the issue persists, contact "
+                            + "the system administrator or development team.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            )}
+    )
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportGames(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean compress = acceptsGzip(request.getHeaders(HttpHeaders.ACCEPT_ENCODING));
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compress) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+        }
+
+        OutputStream body = response.getOutputStream();
+        GZIPOutputStream compressed = compress ? new GZIPOutputStream(body, EXPORT_BUFFER_SIZE) : null;
+        try (JsonGenerator generator = exportWriter.createGenerator(compressed != null ? compressed : body)) {
+            // lines are separated explicitly, not by the default root value separator (a space)
+            generator.setRootValueSeparator(null);
+            exportService.exportGames(game -> {
+                try {
+                    exportWriter.writeValue(generator, exportMapper.toTransferObject(game));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // only reached if all games have been written, so the trailer marks the export as complete
+        if (compressed != null) {
+            compressed.finish();
+        }
+    }
+
+    // whether the given Accept-Encoding header values allow a gzip-encoded response. An explicit gzip entry takes
+    // precedence over the wildcard, and an encoding with quality value 0 is not acceptable.
+    private static boolean acceptsGzip(Enumeration<String> acceptEncodingHeaders) {
+        Boolean gzipAcceptable = null;
+        boolean wildcardAcceptable = false;
+        while (acceptEncodingHeaders.hasMoreElements()) {
+            for (String coding : acceptEncodingHeaders.nextElement().split(",")) {
+                String[] parameters = coding.split(";");
+                String name = parameters[0].trim();
+                if (name.equalsIgnoreCase(GZIP_ENCODING)) {
+                    gzipAcceptable = isAcceptable(parameters);
+                } else if (name.equals("*")) {
+                    wildcardAcceptable = isAcceptable(parameters);
+                }
+            }
+        }
+        return gzipAcceptable != null ? gzipAcceptable : wildcardAcceptable;
+    }
+
+    private static boolean isAcceptable(String[] codingParameters) {
+        for (int i = 1; i < codingParameters.length; i++) {
+            String parameter = codingParameters[i].trim();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     /**
@@ -6,8 +6,10 @@ import com.tikelespike.gamestats.api.entities.PlayerDTO;
 import com.tikelespike.gamestats.api.mapper.PlayerMapper;
 import com.tikelespike.gamestats.api.validation.ValidationUtils;
 import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.User;
 import com.tikelespike.gamestats.businesslogic.services.PlayerService;
+import com.tikelespike.gamestats.businesslogic.services.RevisionService;
 import com.tikelespike.gamestats.businesslogic.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -46,6 +50,7 @@ public class PlayerController {
     private final PlayerService playerService;
     private final UserService userService;
     private final PlayerMapper playerMapper;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new player controller. This is usually done by the Spring framework, which manages the controller's
@@ -54,27 +59,38 @@ public class PlayerController {
      * @param playerService business logic service for managing players
      * @param userService business logic service for managing users
      * @param playerMapper mapper for converting between player data transfer objects and business objects
+     * @param revisionService keeps track of changes to the players
      */
-    public PlayerController(PlayerService playerService, UserService userService, PlayerMapper playerMapper) {
+    public PlayerController(PlayerService playerService, UserService userService, PlayerMapper playerMapper,
+                            RevisionService revisionService) {
         this.playerService = playerService;
         this.userService = userService;
         this.playerMapper = playerMapper;
+        this.revisionService = revisionService;
     }
 
     /**
      * Retrieves a list of all players in the system.
      *
+     * @param request the current request, used to evaluate the If-None-Match header
+     *
      * @return a REST response entity containing the list of players registered in the system
      */
     @Operation(
             summary = "Retrieves all players",
-            description = "Retrieves a list of all players in the system."
+            description = "Retrieves a list of all players in the system. The response contains an ETag header, which "
+                    + "can be sent in the If-None-Match header of subsequent requests to only retrieve the players if "
+                    + "they have changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "List of players retrieved successfully.",
                     content = {@Content(array = @ArraySchema(schema = @Schema(implementation = PlayerDTO.class)))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The list of players did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
             ), @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error. Please try again later. If the issue persists, contact "
@@ -83,9 +99,16 @@ public class PlayerController {
             )}
     )
     @GetMapping()
-    public ResponseEntity<List<PlayerDTO>> getPlayers() {
-        List<PlayerDTO> players = playerService.getAllPlayers().stream().map(playerMapper::toTransferObject).toList();
-        return ResponseEntity.ok(players);
+    public ResponseEntity<List<PlayerDTO>> getPlayers(WebRequest request) {
+        long revision = revisionService.getRevision(ResourceCollection.PLAYERS);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.PLAYERS, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        List<Player> players = playerService.getAllPlayers();
+
+        List<PlayerDTO> transferObjects = players.stream().map(playerMapper::toTransferObject).toList();
+        return ResponseEntity.ok(transferObjects);
     }
 
     /**
@@ -158,6 +181,7 @@ public class PlayerController {
      * Retrieves a player by its unique identifier.
      *
      * @param id the unique identifier of the player
+     * @param request the current request, used to evaluate the If-None-Match header
      *
      * @return a REST response entity containing the player with the given ID
      */
@@ -165,13 +189,19 @@ public class PlayerController {
             summary = "Retrieves a player by ID",
             description =
                     "Retrieves a player by its unique identifier. If no player with the given ID exists, a 404 Not "
-                            + "Found response is returned."
+                            + "Found response is returned. The response contains an ETag header, which can be sent in "
+                            + "the If-None-Match header of subsequent requests to only retrieve the player if it has "
+                            + "changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "Retrieved player successfully. The response body contains the player.",
                     content = {@Content(schema = @Schema(implementation = PlayerDTO.class))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The player did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
             ), @ApiResponse(
                     responseCode = "404",
                     description = "The player with the requested id does not exist.",
@@ -184,7 +214,12 @@ public class PlayerController {
             )}
     )
     @GetMapping("/{id}")
-    public ResponseEntity<Object> getPlayer(@PathVariable("id") long id) {
+    public ResponseEntity<Object> getPlayer(@PathVariable("id") long id, WebRequest request) {
+        long revision = revisionService.getRevision(ResourceCollection.PLAYERS);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.PLAYERS, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         Player player = playerService.getPlayerById(id);
         if (player == null) {
             return ValidationUtils.notFound("/api/v1/players/" + id);
@@ -5,11 +5,13 @@ import com.tikelespike.gamestats.api.entities.ScriptCreationDTO;
 import com.tikelespike.gamestats.api.entities.ScriptDTO;
 import com.tikelespike.gamestats.api.validation.ValidationResult;
 import com.tikelespike.gamestats.api.validation.ValidationUtils;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.Script;
 import com.tikelespike.gamestats.businesslogic.entities.ScriptCreationRequest;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.ResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
+import com.tikelespike.gamestats.businesslogic.services.RevisionService;
 import com.tikelespike.gamestats.businesslogic.services.ScriptService;
 import com.tikelespike.gamestats.common.Mapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,6 +21,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -29,6 +32,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -49,6 +53,7 @@ public class ScriptController {
     private final ScriptService scriptService;
     private final Mapper<Script, ScriptDTO> scriptMapper;
     private final Mapper<ScriptCreationRequest, ScriptCreationDTO> creationMapper;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new ScriptController. This is usually done by the Spring framework, which manages the controller's
@@ -57,12 +62,15 @@ public class ScriptController {
      * @param scriptService the business layer script service to use for managing scripts. May not be null.
      * @param scriptMapper maps between script business objects and their REST representations
      * @param creationMapper maps between script creation requests and their REST representations
+     * @param revisionService keeps track of changes to the scripts
      */
     public ScriptController(ScriptService scriptService, Mapper<Script, ScriptDTO> scriptMapper,
-                            Mapper<ScriptCreationRequest, ScriptCreationDTO> creationMapper) {
+                            Mapper<ScriptCreationRequest, ScriptCreationDTO> creationMapper,
+                            RevisionService revisionService) {
         this.scriptService = scriptService;
         this.scriptMapper = scriptMapper;
         this.creationMapper = creationMapper;
+        this.revisionService = revisionService;
     }
 
     /**
@@ -132,18 +140,25 @@ public class ScriptController {
     /**
      * Retrieves all scripts.
      *
+     * @param request the current request, used to evaluate the If-None-Match header
+     *
      * @return a REST response entity containing all scripts currently known to the system
      */
     @Operation(
             summary = "Retrieves all scripts",
             description = "Retrieves a list of all scripts registered in the system and available for use in "
-                    + "games."
+                    + "games. The response contains an ETag header, which can be sent in the If-None-Match "
+                    + "header of subsequent requests to only retrieve the scripts if they have changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "Retrieval successful. The response body contains the list of scripts",
                     content = {@Content(array = @ArraySchema(schema = @Schema(implementation = ScriptDTO.class)))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The list of scripts did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
             ), @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
@@ -162,7 +177,12 @@ public class ScriptController {
             )}
     )
     @GetMapping()
-    public ResponseEntity<Object> getCharacters() {
+    public ResponseEntity<Object> getCharacters(WebRequest request) {
+        long revision = revisionService.getRevision(ResourceCollection.SCRIPTS);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.SCRIPTS, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<Script> scripts = scriptService.getAllScripts();
 
         List<ScriptDTO> transferObjects = scripts.stream().map(scriptMapper::toTransferObject).toList();
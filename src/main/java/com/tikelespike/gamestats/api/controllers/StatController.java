@@ -3,6 +3,7 @@ package com.tikelespike.gamestats.api.controllers;
 import com.tikelespike.gamestats.api.entities.ErrorEntity;
 import com.tikelespike.gamestats.api.entities.PlayerStatsDTO;
 import com.tikelespike.gamestats.api.mapper.PlayerStatsMapper;
+import com.tikelespike.gamestats.api.validation.ValidationUtils;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerStats;
 import com.tikelespike.gamestats.businesslogic.services.StatService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -90,4 +92,52 @@ public class StatController {
                 .toList();
         return ResponseEntity.ok(statsDTO);
     }
+
+    /**
+     * Retrieves statistics about a single player, such as won games or amount of times the player played as part of
+     * the evil team.
+     *
+     * @param id the unique identifier of the player
+     *
+     * @return a REST response entity containing the statistics of the player with the given ID
+     */
+    @Operation(
+            summary = "Retrieves the statistics of a single player",
+            description = "Retrieves the statistics of the player with the given ID. If no player with the given ID "
+                    + "exists, a 404 Not Found response is returned."
+    )
+    @ApiResponses(
+            value = {@ApiResponse(
+                    responseCode = "200",
+                    description = "Retrieval successful. The response body contains the player statistics.",
+                    content = {@Content(schema = @Schema(implementation = PlayerStatsDTO.class))}
+            ), @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
+                            + "again.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden. You do not have the necessary permissions to perform this request. "
+                            + "Please sign in with an account that has the necessary permissions.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "404",
+                    description = "The player with the requested id does not exist.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            ), @ApiResponse(
+                    responseCode = "500",
+                    description = "Internal server error. Please try again later. If the issue persists, contact "
+                            + "the system administrator or development team.",
+                    content = {@Content(schema = @Schema(implementation = ErrorEntity.class))}
+            )}
+    )
+    @GetMapping("/players/{id}")
+    public ResponseEntity<Object> getPlayerStatistics(@PathVariable("id") long id) {
+        PlayerStats stats = statService.getPlayerStatistics(id);
+        if (stats == null) {
+            return ValidationUtils.notFound("/api/v1/stats/players/" + id);
+        }
+        return ResponseEntity.ok(playerStatsMapper.toTransferObject(stats));
+    }
 }
@@ -0,0 +1,65 @@
+package com.tikelespike.gamestats.api.controllers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Response body that is serialized as a JSON array, the elements of which are produced one after the other while the
+ * response is being written. In contrast to returning a list, the elements are never collected in memory, so the
+ * memory needed to write the response does not depend on the number of elements.
+ *
+ * @param <T> type of the array elements
+ */
+@JsonSerialize(using = StreamedJsonArray.Serializer.class)
+final class StreamedJsonArray<T> {
+
+    private final Consumer<Consumer<? super T>> producer;
+
+    /**
+     * Creates a new streamed array.
+     *
+     * @param producer passes all elements of the array, in order, to the consumer it is given. Called once when
+     *         the response is written. May not be null.
+     */
+    StreamedJsonArray(Consumer<Consumer<? super T>> producer) {
+        this.producer = producer;
+    }
+
+    private void produce(Consumer<? super T> consumer) {
+        producer.accept(consumer);
+    }
+
+    /**
+     * Writes every element to the generator as soon as it is produced.
+     */
+    static final class Serializer extends StdSerializer<StreamedJsonArray<?>> {
+
+        Serializer() {
+            super(StreamedJsonArray.class, false);
+        }
+
+        @Override
+        public void serialize(StreamedJsonArray<?> value, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            try {
+                value.produce(element -> {
+                    try {
+                        provider.defaultSerializeValue(element, generator);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -10,9 +10,11 @@ import com.tikelespike.gamestats.api.mapper.UserRoleMapper;
 import com.tikelespike.gamestats.api.mapper.UserUpdateMapper;
 import com.tikelespike.gamestats.api.validation.ValidationResult;
 import com.tikelespike.gamestats.api.validation.ValidationUtils;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.User;
 import com.tikelespike.gamestats.businesslogic.exceptions.InvalidDataException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
+import com.tikelespike.gamestats.businesslogic.services.RevisionService;
 import com.tikelespike.gamestats.businesslogic.services.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +24,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -35,6 +38,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 import java.util.List;
@@ -57,6 +61,7 @@ public class UserController {
     private final UserMapper userMapper;
     private final UserUpdateMapper userUpdateMapper;
     private final UserRoleMapper userRoleMapper;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new UserController. This is usually done by the Spring framework, which manages the controller's
@@ -69,14 +74,17 @@ public class UserController {
      * @param userUpdateMapper the mapper for converting between user update data transfer objects and business
      *         objects
      * @param userRoleMapper the mapper for converting between user role dtos and business objects
+     * @param revisionService keeps track of changes to the users
      */
     public UserController(UserService service, UserCreationMapper userCreationMapper, UserMapper userMapper,
-                          UserUpdateMapper userUpdateMapper, UserRoleMapper userRoleMapper) {
+                          UserUpdateMapper userUpdateMapper, UserRoleMapper userRoleMapper,
+                          RevisionService revisionService) {
         this.service = service;
         this.userCreationMapper = userCreationMapper;
         this.userMapper = userMapper;
         this.userUpdateMapper = userUpdateMapper;
         this.userRoleMapper = userRoleMapper;
+        this.revisionService = revisionService;
     }
 
     /**
@@ -141,17 +149,25 @@ public class UserController {
     /**
      * Retrieves all users.
      *
+     * @param request the current request, used to evaluate the If-None-Match header
+     *
      * @return a REST response entity containing all users currently known to the system
      */
     @Operation(
             summary = "Retrieves all users",
-            description = "Retrieves a list of all users registered in the system."
+            description = "Retrieves a list of all users registered in the system. The response contains an ETag "
+                    + "header, which can be sent in the If-None-Match header of subsequent requests to only retrieve "
+                    + "the users if they have changed."
     )
     @ApiResponses(
             value = {@ApiResponse(
                     responseCode = "200",
                     description = "Retrieval successful. The response body contains the list of users",
                     content = {@Content(array = @ArraySchema(schema = @Schema(implementation = UserDTO.class)))}
+            ), @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified. The list of users did not change since the version "
+                            + "identified by the If-None-Match header. No content is returned."
             ), @ApiResponse(
                     responseCode = "401",
                     description = "Unauthorized. Your session has expired or you are not logged in. Please sign in "
@@ -171,7 +187,12 @@ public class UserController {
     )
     @PreAuthorize("hasAuthority('USER')")
     @GetMapping()
-    public ResponseEntity<Object> getUsers() {
+    public ResponseEntity<Object> getUsers(WebRequest request) {
+        long revision = revisionService.getRevision(ResourceCollection.USERS);
+        if (request.checkNotModified(EntityTags.ofRevision(ResourceCollection.USERS, revision))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
         List<User> users = service.getAllUsers();
         List<UserDTO> transferObjects = users.stream().map(userMapper::toTransferObject).toList();
         return ResponseEntity.ok(transferObjects);
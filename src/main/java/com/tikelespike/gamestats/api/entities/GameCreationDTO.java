@@ -89,6 +89,9 @@ public record GameCreationDTO(
                 .anyMatch(Objects::isNull)) {
             return ValidationResult.invalid("Winning player ids must not contain null values.");
         }
+        if (containsDuplicates(winningPlayerIds)) {
+            return ValidationResult.invalid("The same player cannot be listed as a winner multiple times.");
+        }
         Collection<Long> participatingPlayers = Arrays.stream(participants)
                 .map(PlayerParticipationDTO::playerId)
                 .filter(Objects::nonNull)
@@ -0,0 +1,54 @@
+package com.tikelespike.gamestats.api.entities;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * REST transfer object for the outcome of importing a single game as part of a batch.
+ *
+ * @param index position of the game in the imported batch, starting at 0
+ * @param id unique numerical identifier of the created game, or null if the game was rejected
+ * @param error human-readable reason the game was rejected, or null if it was created
+ */
+@Schema(
+        name = "GameImportResult",
+        description = "Outcome of importing a single game of a batch. Exactly one of id and error is set."
+)
+public record GameImportResultDTO(
+        @Schema(
+                description = "Position of the game in the imported batch, starting at 0.",
+                example = "3"
+        ) int index,
+        @Schema(
+                description = "Unique numerical identifier of the created game. Null if the game was rejected.",
+                example = "42"
+        ) Long id,
+        @Schema(
+                description = "Reason the game was rejected. Null if the game was created.",
+                example = "Players with ids [7] do not exist"
+        ) String error
+) {
+
+    /**
+     * Creates the result of a game that has been created.
+     *
+     * @param index position of the game in the imported batch
+     * @param id id of the created game
+     *
+     * @return the result of the game
+     */
+    public static GameImportResultDTO created(int index, long id) {
+        return new GameImportResultDTO(index, id, null);
+    }
+
+    /**
+     * Creates the result of a game that has been rejected.
+     *
+     * @param index position of the game in the imported batch
+     * @param error reason the game was rejected
+     *
+     * @return the result of the game
+     */
+    public static GameImportResultDTO rejected(int index, String error) {
+        return new GameImportResultDTO(index, null, error);
+    }
+}
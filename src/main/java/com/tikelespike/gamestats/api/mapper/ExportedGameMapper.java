@@ -0,0 +1,64 @@
+package com.tikelespike.gamestats.api.mapper;
+
+import com.tikelespike.gamestats.api.entities.AlignmentDTO;
+import com.tikelespike.gamestats.api.entities.GameDTO;
+import com.tikelespike.gamestats.api.entities.PlayerParticipationDTO;
+import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGame;
+import com.tikelespike.gamestats.common.Mapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps exported (or listed) games to their REST transfer representation, which is the same as the one of regular
+ * games. The mapping is one-way, as games are never read back in this representation.
+ */
+@Component
+public class ExportedGameMapper {
+
+    private final Mapper<Alignment, AlignmentDTO> alignmentMapper;
+
+    /**
+     * Creates a new exported game mapper. This is usually done by the Spring framework, which manages the mapper's
+     * lifecycle and injects the required dependencies.
+     *
+     * @param alignmentMapper mapper for alignments
+     */
+    public ExportedGameMapper(AlignmentMapper alignmentMapper) {
+        this.alignmentMapper = alignmentMapper;
+    }
+
+    /**
+     * Maps an exported game to its REST transfer representation.
+     *
+     * @param businessObject the exported game to map. May be null.
+     *
+     * @return the corresponding transfer object, or null if the exported game is null
+     */
+    public GameDTO toTransferObject(ExportedGame businessObject) {
+        if (businessObject == null) {
+            return null;
+        }
+        PlayerParticipationDTO[] participationDTOs = businessObject.participants().stream()
+                .map(participation -> new PlayerParticipationDTO(
+                        participation.playerId(),
+                        participation.initialCharacterId(),
+                        alignmentMapper.toTransferObject(participation.initialAlignment()),
+                        participation.endCharacterId(),
+                        alignmentMapper.toTransferObject(participation.endAlignment()),
+                        participation.isAliveAtEnd()
+                ))
+                .toArray(PlayerParticipationDTO[]::new);
+
+        return new GameDTO(
+                businessObject.id(),
+                businessObject.version(),
+                businessObject.name(),
+                businessObject.description(),
+                businessObject.scriptId(),
+                businessObject.storytellerIds().toArray(Long[]::new),
+                alignmentMapper.toTransferObject(businessObject.winningAlignment()),
+                businessObject.winningPlayerIds().toArray(Long[]::new),
+                participationDTOs
+        );
+    }
+}
@@ -9,7 +9,6 @@ import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
 import com.tikelespike.gamestats.businesslogic.entities.Script;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
-import com.tikelespike.gamestats.businesslogic.services.PlayerService;
 import com.tikelespike.gamestats.businesslogic.services.ScriptService;
 import com.tikelespike.gamestats.common.Mapper;
 import org.springframework.stereotype.Component;
@@ -25,31 +24,46 @@ import java.util.List;
 public class GameCreationRequestMapper extends Mapper<GameCreationRequest, GameCreationDTO> {
 
     private final ScriptService scriptService;
-    private final PlayerService playerService;
+    private final GameReferenceResolver referenceResolver;
     private final Mapper<Alignment, AlignmentDTO> alignmentMapper;
-    private final Mapper<PlayerParticipation, PlayerParticipationDTO> playerParticipationMapper;
+    private final PlayerParticipationMapper playerParticipationMapper;
 
     /**
      * Creates a new game creation request mapper. This is usually done by the Spring framework, which manages the
      * mapper's lifecycle and injects the required dependencies.
      *
      * @param scriptService service to load scripts from ids
-     * @param playerService service to load players from ids
+     * @param referenceResolver resolver to load the referenced players and characters from ids
      * @param alignmentMapper mapper for alignments
      * @param playerParticipationMapper mapper for player participations
      */
-    public GameCreationRequestMapper(ScriptService scriptService, PlayerService playerService,
+    public GameCreationRequestMapper(ScriptService scriptService, GameReferenceResolver referenceResolver,
                                      AlignmentMapper alignmentMapper,
                                      PlayerParticipationMapper playerParticipationMapper) {
         this.scriptService = scriptService;
-        this.playerService = playerService;
+        this.referenceResolver = referenceResolver;
         this.alignmentMapper = alignmentMapper;
         this.playerParticipationMapper = playerParticipationMapper;
     }
 
-    @Override
-    protected GameCreationRequest toBusinessObjectNoCheck(GameCreationDTO transferObject) {
-        Script script = scriptService.getScript(transferObject.scriptId());
+    /**
+     * Maps from a transfer object to a business object, taking the referenced players and characters from references
+     * that have already been resolved (for example for a whole batch of requests at once).
+     *
+     * @param transferObject the transfer object to map. May be null.
+     * @param references the resolved references containing the players and characters of the request (may not be
+     *         null)
+     *
+     * @return a corresponding business object, or null if the transfer object is null
+     * @throws RelatedResourceNotFoundException if the referenced script or one of the referenced players or
+     *         characters does not exist
+     */
+    public GameCreationRequest toBusinessObject(GameCreationDTO transferObject, GameReferences references) {
+        if (transferObject == null) {
+            return null;
+        }
+
+        Script script = transferObject.scriptId() == null ? null : scriptService.getScript(transferObject.scriptId());
 
         if (script == null) {
             throw new RelatedResourceNotFoundException(
@@ -57,17 +71,14 @@ public class GameCreationRequestMapper extends Mapper<GameCreationRequest, GameC
             );
         }
 
-        List<PlayerParticipation> participations =
-                Arrays.stream(transferObject.participants()).map(playerParticipationMapper::toBusinessObject).toList();
+        List<PlayerParticipation> participations = Arrays.stream(transferObject.participants())
+                .map(participation -> playerParticipationMapper.toBusinessObject(participation, references))
+                .toList();
 
         List<Player> storytellers = new ArrayList<>();
         if (transferObject.storytellerIds() != null) {
             for (Long playerId : transferObject.storytellerIds()) {
-                Player player = playerService.getPlayerById(playerId);
-                if (player == null) {
-                    throw new RelatedResourceNotFoundException("Player with id " + playerId + " not found");
-                }
-                storytellers.add(player);
+                storytellers.add(references.player(playerId));
             }
         }
 
@@ -85,11 +96,7 @@ public class GameCreationRequestMapper extends Mapper<GameCreationRequest, GameC
 
         List<Player> winningPlayers = new ArrayList<>();
         for (Long playerId : transferObject.winningPlayerIds()) {
-            Player player = playerService.getPlayerById(playerId);
-            if (player == null) {
-                throw new RelatedResourceNotFoundException("Player with id " + playerId + " not found");
-            }
-            winningPlayers.add(player);
+            winningPlayers.add(references.player(playerId));
         }
         return new GameCreationRequest(
                 script,
@@ -102,6 +109,11 @@ public class GameCreationRequestMapper extends Mapper<GameCreationRequest, GameC
         );
     }
 
+    @Override
+    protected GameCreationRequest toBusinessObjectNoCheck(GameCreationDTO transferObject) {
+        return toBusinessObject(transferObject, referenceResolver.resolve(transferObject));
+    }
+
     @Override
     protected GameCreationDTO toTransferObjectNoCheck(GameCreationRequest businessObject) {
         PlayerParticipationDTO[] participationDTOs = businessObject.participants().stream()
@@ -9,7 +9,6 @@ import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
 import com.tikelespike.gamestats.businesslogic.entities.Script;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
-import com.tikelespike.gamestats.businesslogic.services.PlayerService;
 import com.tikelespike.gamestats.businesslogic.services.ScriptService;
 import com.tikelespike.gamestats.common.Mapper;
 import org.springframework.stereotype.Component;
@@ -25,23 +24,23 @@ import java.util.List;
 public class GameMapper extends Mapper<Game, GameDTO> {
 
     private final ScriptService scriptService;
-    private final PlayerService playerService;
+    private final GameReferenceResolver referenceResolver;
     private final Mapper<Alignment, AlignmentDTO> alignmentMapper;
-    private final Mapper<PlayerParticipation, PlayerParticipationDTO> playerParticipationMapper;
+    private final PlayerParticipationMapper playerParticipationMapper;
 
     /**
      * Creates a new game mapper. This is usually done by the Spring framework, which manages the mapper's lifecycle and
      * injects the required dependencies.
      *
      * @param scriptService service to load scripts from ids
-     * @param playerService service to load players from ids
+     * @param referenceResolver resolver to load the referenced players and characters from ids
      * @param alignmentMapper mapper for alignments
      * @param playerParticipationMapper mapper for player participations
      */
-    public GameMapper(ScriptService scriptService, PlayerService playerService,
+    public GameMapper(ScriptService scriptService, GameReferenceResolver referenceResolver,
                       AlignmentMapper alignmentMapper, PlayerParticipationMapper playerParticipationMapper) {
         this.scriptService = scriptService;
-        this.playerService = playerService;
+        this.referenceResolver = referenceResolver;
         this.alignmentMapper = alignmentMapper;
         this.playerParticipationMapper = playerParticipationMapper;
     }
@@ -55,17 +54,15 @@ public class GameMapper extends Mapper<Game, GameDTO> {
             );
         }
 
-        List<PlayerParticipation> participations =
-                Arrays.stream(transferObject.participants()).map(playerParticipationMapper::toBusinessObject).toList();
+        GameReferences references = referenceResolver.resolve(transferObject);
+        List<PlayerParticipation> participations = Arrays.stream(transferObject.participants())
+                .map(participation -> playerParticipationMapper.toBusinessObject(participation, references))
+                .toList();
 
         List<Player> storytellers = new ArrayList<>();
         if (transferObject.storytellerIds() != null) {
             for (Long playerId : transferObject.storytellerIds()) {
-                Player player = playerService.getPlayerById(playerId);
-                if (player == null) {
-                    throw new RelatedResourceNotFoundException("Player with id " + playerId + " not found");
-                }
-                storytellers.add(player);
+                storytellers.add(references.player(playerId));
             }
         }
 
@@ -84,11 +81,7 @@ public class GameMapper extends Mapper<Game, GameDTO> {
 
         List<Player> winningPlayers = new ArrayList<>();
         for (Long playerId : transferObject.winningPlayerIds()) {
-            Player player = playerService.getPlayerById(playerId);
-            if (player == null) {
-                throw new RelatedResourceNotFoundException("Player with id " + playerId + " not found");
-            }
-            winningPlayers.add(player);
+            winningPlayers.add(references.player(playerId));
         }
         return new Game(
                 transferObject.id(),
@@ -104,14 +97,14 @@ public class GameMapper extends Mapper<Game, GameDTO> {
 
     @Override
     protected GameDTO toTransferObjectNoCheck(Game businessObject) {
-        PlayerParticipationDTO[] participationDTOs = businessObject.getParticipants().stream()
+        PlayerParticipationDTO[] participationDTOs = businessObject.getParticipantsView().stream()
                 .map(playerParticipationMapper::toTransferObject).toArray(PlayerParticipationDTO[]::new);
 
         Long[] winningPlayerIds = businessObject.getWinningPlayers() == null ? null
                 : businessObject.getWinningPlayers().stream().map(Player::getId).toArray(Long[]::new);
 
-        Long[] storytellerIds = businessObject.getStorytellers() == null ? null
-                : businessObject.getStorytellers().stream().map(Player::getId).toArray(Long[]::new);
+        Long[] storytellerIds = businessObject.getStorytellersView() == null ? null
+                : businessObject.getStorytellersView().stream().map(Player::getId).toArray(Long[]::new);
 
         return new GameDTO(
                 businessObject.getId(),
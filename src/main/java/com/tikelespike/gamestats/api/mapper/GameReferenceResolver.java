@@ -0,0 +1,134 @@
+package com.tikelespike.gamestats.api.mapper;
+
+import com.tikelespike.gamestats.api.entities.GameCreationDTO;
+import com.tikelespike.gamestats.api.entities.GameDTO;
+import com.tikelespike.gamestats.api.entities.PlayerParticipationDTO;
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.services.CharacterService;
+import com.tikelespike.gamestats.businesslogic.services.PlayerService;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves all players and characters referenced by the transfer representation of a game at once. Instead of loading
+ * every storyteller, winning player, participant and character individually, all referenced ids are collected first
+ * and loaded with one query per type, regardless of the number of participants.
+ */
+@Component
+public class GameReferenceResolver {
+
+    private final PlayerService playerService;
+    private final CharacterService characterService;
+
+    /**
+     * Creates a new game reference resolver. This is usually done by the Spring framework, which manages the
+     * resolver's lifecycle and injects the required dependencies.
+     *
+     * @param playerService service to load players from ids
+     * @param characterService service to load characters from ids
+     */
+    public GameReferenceResolver(PlayerService playerService, CharacterService characterService) {
+        this.playerService = playerService;
+        this.characterService = characterService;
+    }
+
+    /**
+     * Loads all players and characters referenced by the given game.
+     *
+     * @param game transfer representation of the game (may not be null)
+     *
+     * @return the referenced players and characters that exist
+     */
+    public GameReferences resolve(GameDTO game) {
+        return resolve(game.storytellerIds(), game.winningPlayerIds(), game.participants());
+    }
+
+    /**
+     * Loads all players and characters referenced by the given game creation request.
+     *
+     * @param request transfer representation of the game creation request (may not be null)
+     *
+     * @return the referenced players and characters that exist
+     */
+    public GameReferences resolve(GameCreationDTO request) {
+        return resolve(request.storytellerIds(), request.winningPlayerIds(), request.participants());
+    }
+
+    /**
+     * Loads all players and characters referenced by any of the given game creation requests at once, for example to
+     * map a whole batch of requests with one query per type.
+     *
+     * @param requests transfer representations of the game creation requests (may not be null, but may contain
+     *         null elements, which are ignored)
+     *
+     * @return the referenced players and characters that exist
+     */
+    public GameReferences resolveAll(Collection<GameCreationDTO> requests) {
+        Set<Long> playerIds = new HashSet<>();
+        Set<Long> characterIds = new HashSet<>();
+        for (GameCreationDTO request : requests) {
+            if (request != null) {
+                collectIds(playerIds, characterIds, request.storytellerIds(), request.winningPlayerIds(),
+                        request.participants());
+            }
+        }
+        return load(playerIds, characterIds);
+    }
+
+    /**
+     * Loads all players and characters referenced by the given player participations.
+     *
+     * @param participations transfer representations of the participations (may not be null)
+     *
+     * @return the referenced players and characters that exist
+     */
+    public GameReferences resolve(PlayerParticipationDTO... participations) {
+        return resolve(null, null, participations);
+    }
+
+    private GameReferences resolve(Long[] storytellerIds, Long[] winningPlayerIds,
+                                   PlayerParticipationDTO[] participations) {
+        Set<Long> playerIds = new HashSet<>();
+        Set<Long> characterIds = new HashSet<>();
+        collectIds(playerIds, characterIds, storytellerIds, winningPlayerIds, participations);
+        return load(playerIds, characterIds);
+    }
+
+    private static void collectIds(Set<Long> playerIds, Set<Long> characterIds, Long[] storytellerIds,
+                                   Long[] winningPlayerIds, PlayerParticipationDTO[] participations) {
+        addAll(playerIds, storytellerIds);
+        addAll(playerIds, winningPlayerIds);
+        if (participations != null) {
+            for (PlayerParticipationDTO participation : participations) {
+                if (participation == null) {
+                    continue;
+                }
+                addAll(playerIds, participation.playerId());
+                addAll(characterIds, participation.initialCharacterId(), participation.endCharacterId());
+            }
+        }
+    }
+
+    private GameReferences load(Set<Long> playerIds, Set<Long> characterIds) {
+        return new GameReferences(
+                playerService.getExistingPlayers(playerIds).stream()
+                        .collect(Collectors.toMap(Player::getId, Function.identity())),
+                characterService.getExistingCharacters(characterIds).stream()
+                        .collect(Collectors.toMap(Character::getId, Function.identity()))
+        );
+    }
+
+    private static void addAll(Set<Long> ids, Long... idsToAdd) {
+        if (idsToAdd != null) {
+            Arrays.stream(idsToAdd).filter(Objects::nonNull).forEach(ids::add);
+        }
+    }
+}
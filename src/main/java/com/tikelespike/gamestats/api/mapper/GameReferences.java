@@ -0,0 +1,67 @@
+package com.tikelespike.gamestats.api.mapper;
+
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
+
+import java.util.Map;
+
+/**
+ * The players and characters referenced by the transfer representation of a single game, loaded in bulk by a
+ * {@link GameReferenceResolver}. Mappers look up the referenced business objects here instead of loading each of them
+ * individually.
+ */
+public final class GameReferences {
+
+    private final Map<Long, Player> players;
+    private final Map<Long, Character> characters;
+
+    /**
+     * Creates a new set of resolved references.
+     *
+     * @param players the resolved players by their id (may not be null)
+     * @param characters the resolved characters by their id (may not be null)
+     */
+    GameReferences(Map<Long, Player> players, Map<Long, Character> characters) {
+        this.players = Map.copyOf(players);
+        this.characters = Map.copyOf(characters);
+    }
+
+    /**
+     * Returns the referenced player with the given id.
+     *
+     * @param id the id of the player (may be null)
+     *
+     * @return the player with the given id, or null if the id is null
+     * @throws RelatedResourceNotFoundException if there is no player with the given id
+     */
+    public Player player(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Player player = players.get(id);
+        if (player == null) {
+            throw new RelatedResourceNotFoundException("Player with id " + id + " not found");
+        }
+        return player;
+    }
+
+    /**
+     * Returns the referenced character with the given id.
+     *
+     * @param id the id of the character (may be null)
+     *
+     * @return the character with the given id, or null if the id is null
+     * @throws RelatedResourceNotFoundException if there is no character with the given id
+     */
+    public Character character(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Character character = characters.get(id);
+        if (character == null) {
+            throw new RelatedResourceNotFoundException("Character with id " + id + " not found");
+        }
+        return character;
+    }
+}
@@ -3,12 +3,8 @@ package com.tikelespike.gamestats.api.mapper;
 import com.tikelespike.gamestats.api.entities.AlignmentDTO;
 import com.tikelespike.gamestats.api.entities.PlayerParticipationDTO;
 import com.tikelespike.gamestats.businesslogic.entities.Alignment;
-import com.tikelespike.gamestats.businesslogic.entities.Character;
-import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
-import com.tikelespike.gamestats.businesslogic.services.CharacterService;
-import com.tikelespike.gamestats.businesslogic.services.PlayerService;
 import com.tikelespike.gamestats.common.Mapper;
 import org.springframework.stereotype.Component;
 
@@ -19,56 +15,52 @@ import org.springframework.stereotype.Component;
 public class PlayerParticipationMapper extends Mapper<PlayerParticipation, PlayerParticipationDTO> {
 
     private final Mapper<Alignment, AlignmentDTO> alignmentMapper;
-    private final PlayerService playerService;
-    private final CharacterService characterService;
+    private final GameReferenceResolver referenceResolver;
 
     /**
      * Creates a new player participation mapper. This is usually done by the Spring framework, which manages the
      * mapper's lifecycle and injects the required dependencies.
      *
      * @param alignmentMapper mapper for alignments
-     * @param playerService service to load players from ids
-     * @param characterService service to load characters from ids
+     * @param referenceResolver resolver to load the referenced players and characters from ids
      */
-    public PlayerParticipationMapper(AlignmentMapper alignmentMapper, PlayerService playerService,
-                                     CharacterService characterService) {
+    public PlayerParticipationMapper(AlignmentMapper alignmentMapper, GameReferenceResolver referenceResolver) {
         this.alignmentMapper = alignmentMapper;
-        this.playerService = playerService;
-        this.characterService = characterService;
+        this.referenceResolver = referenceResolver;
     }
 
-    @Override
-    protected PlayerParticipation toBusinessObjectNoCheck(PlayerParticipationDTO transferObject) {
-        Player player =
-                transferObject.playerId() == null ? null : playerService.getPlayerById(transferObject.playerId());
-        if (player == null && transferObject.playerId() != null) {
-            throw new RelatedResourceNotFoundException("Player with id " + transferObject.playerId() + " not found");
-        }
-
-        Character initialCharacter = transferObject.initialCharacterId() == null ? null
-                : characterService.getCharacter(transferObject.initialCharacterId());
-        if (initialCharacter == null && transferObject.initialCharacterId() != null) {
-            throw new RelatedResourceNotFoundException(
-                    "Character with id " + transferObject.initialCharacterId() + " not found");
-        }
-
-        Character endCharacter = transferObject.endCharacterId() == null ? null
-                : characterService.getCharacter(transferObject.endCharacterId());
-        if (endCharacter == null && transferObject.endCharacterId() != null) {
-            throw new RelatedResourceNotFoundException(
-                    "Character with id " + transferObject.endCharacterId() + " not found");
+    /**
+     * Maps from a transfer object to a business object, taking the referenced player and characters from references
+     * that have already been resolved (for example for all participations of a game at once).
+     *
+     * @param transferObject the transfer object to map. May be null.
+     * @param references the resolved references containing the player and characters of the participation (may
+     *         not be null)
+     *
+     * @return a corresponding business object, or null if the transfer object is null
+     * @throws RelatedResourceNotFoundException if the referenced player or one of the referenced characters does not
+     *         exist
+     */
+    public PlayerParticipation toBusinessObject(PlayerParticipationDTO transferObject, GameReferences references) {
+        if (transferObject == null) {
+            return null;
         }
 
         return new PlayerParticipation(
-                player,
-                initialCharacter,
+                references.player(transferObject.playerId()),
+                references.character(transferObject.initialCharacterId()),
                 alignmentMapper.toBusinessObject(transferObject.initialAlignment()),
-                endCharacter,
+                references.character(transferObject.endCharacterId()),
                 alignmentMapper.toBusinessObject(transferObject.endAlignment()),
                 transferObject.isAliveAtEnd()
         );
     }
 
+    @Override
+    protected PlayerParticipation toBusinessObjectNoCheck(PlayerParticipationDTO transferObject) {
+        return toBusinessObject(transferObject, referenceResolver.resolve(transferObject));
+    }
+
     @Override
     protected PlayerParticipationDTO toTransferObjectNoCheck(PlayerParticipation businessObject) {
         return new PlayerParticipationDTO(
@@ -58,7 +58,7 @@ public class ScriptMapper extends Mapper<Script, ScriptDTO> {
                 businessObject.getName(),
                 businessObject.getDescription(),
                 businessObject.getWikiPageLink(),
-                businessObject.getCharacters().stream()
+                businessObject.getCharactersView().stream()
                         .map(Character::getId)
                         .toArray(Long[]::new)
         );
@@ -1,5 +1,6 @@
 package com.tikelespike.gamestats.api.security;
 
+import com.tikelespike.gamestats.api.controllers.GameController;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -30,6 +31,7 @@ public class CorsConfig {
         config.setAllowedOrigins(Arrays.asList(allowedOrigins.split(",")));
         config.addAllowedMethod("*");
         config.addAllowedHeader("*");
+        config.addExposedHeader(GameController.NEXT_CURSOR_HEADER);
         config.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -48,7 +48,7 @@ public class SecurityFilter extends OncePerRequestFilter {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
                 return;
             }
-            var user = userService.loadUserByUsername(login);
+            var user = userService.getAuthenticatedUser(login);
             if (user == null) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token (user does not exist)");
                 return;
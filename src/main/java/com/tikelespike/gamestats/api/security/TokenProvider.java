@@ -4,6 +4,7 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.tikelespike.gamestats.businesslogic.entities.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,14 +13,26 @@ import java.time.Duration;
 import java.time.Instant;
 
 /**
- * Service that provides methods to generate and validate JSON Web Tokens, used for authentication.
+ * Service that provides methods to generate and validate JSON Web Tokens, used for authentication. The signing algorithm
+ * and the verifier are created once and shared by all requests (both are thread-safe).
  */
 @Service
 public class TokenProvider {
     private static final Duration TOKEN_VALIDITY_DURATION = Duration.ofHours(24);
 
-    @Value("${security.jwt.token.secret-key}")
-    private String jwtSecret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    /**
+     * Creates a new token provider. This is usually done by the Spring framework, which manages the provider's
+     * lifecycle and injects the required configuration.
+     *
+     * @param jwtSecret the secret key used to sign and verify tokens
+     */
+    public TokenProvider(@Value("${security.jwt.token.secret-key}") String jwtSecret) {
+        this.algorithm = Algorithm.HMAC256(jwtSecret);
+        this.verifier = JWT.require(algorithm).build();
+    }
 
     /**
      * @param user the user for which to generate a token
@@ -28,7 +41,6 @@ public class TokenProvider {
      */
     public String generateAccessToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(jwtSecret);
             return JWT.create()
                     .withSubject(user.getUsername())
                     .withClaim("username", user.getUsername())
@@ -48,11 +60,7 @@ public class TokenProvider {
      */
     public String validateToken(String token) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(jwtSecret);
-            return JWT.require(algorithm)
-                    .build()
-                    .verify(token)
-                    .getSubject();
+            return verifier.verify(token).getSubject();
         } catch (JWTVerificationException exception) {
             throw new JWTVerificationException("Error while validating token", exception);
         }
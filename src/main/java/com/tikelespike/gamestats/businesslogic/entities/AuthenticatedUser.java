@@ -0,0 +1,94 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The identity of a user whose request has been authenticated, as needed to authorize the request. In contrast to
+ * {@link User}, it does not contain the user's password, name or player, so it can be loaded with a single index lookup
+ * and kept in memory for every authenticated request.
+ */
+public final class AuthenticatedUser implements Principal {
+
+    private final long id;
+    private final String email;
+    private final UserRole role;
+
+    /**
+     * Creates a new authenticated user.
+     *
+     * @param id unique identifier of the user
+     * @param email email address the user signs in with. May not be null.
+     * @param role the role assigned to the user (if null, the default role is assigned)
+     */
+    public AuthenticatedUser(long id, String email, UserRole role) {
+        this.id = id;
+        this.email = Objects.requireNonNull(email);
+        this.role = role != null ? role : UserRole.defaultRole();
+    }
+
+    /**
+     * Returns the unique identifier of the user.
+     *
+     * @return the id of the user
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns the email address the user signs in with.
+     *
+     * @return the email address of the user
+     */
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Returns the role assigned to the user.
+     *
+     * @return the role of the user
+     */
+    public UserRole getRole() {
+        return role;
+    }
+
+    /**
+     * Returns the authorities granted to the user, as used by Spring Security to authorize requests.
+     *
+     * @return the authorities of the user
+     */
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.toString()));
+    }
+
+    /**
+     * Returns the name identifying the user for authentication purposes, which is the email address.
+     *
+     * @return the email address of the user
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AuthenticatedUser user = (AuthenticatedUser) o;
+        return id == user.id && Objects.equals(email, user.email) && role == user.role;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, email, role);
+    }
+}
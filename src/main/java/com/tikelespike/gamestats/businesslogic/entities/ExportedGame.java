@@ -0,0 +1,50 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A game as it is exported or listed, referencing the script, players and characters by id only. In contrast to
+ * {@link Game}, an exported game does not need any of the referenced resources to be loaded.
+ *
+ * @param id unique identifier of the game
+ * @param version version counter of the game used for optimistic locking
+ * @param name name of the game
+ * @param description description of the game (may be null)
+ * @param scriptId id of the script the game was played with
+ * @param winningAlignment alignment that won the game, or null if the winners are given as players only
+ * @param storytellerIds ids of the storytellers of the game (may not be null)
+ * @param winningPlayerIds ids of the players that won the game (may not be null)
+ * @param participants participations of the players in the game, in order (may not be null)
+ */
+public record ExportedGame(
+        long id,
+        Long version,
+        String name,
+        String description,
+        Long scriptId,
+        Alignment winningAlignment,
+        List<Long> storytellerIds,
+        List<Long> winningPlayerIds,
+        List<ExportedParticipation> participants
+) {
+
+    /**
+     * Creates a new exported game.
+     *
+     * @param id unique identifier of the game
+     * @param version version counter of the game used for optimistic locking
+     * @param name name of the game
+     * @param description description of the game (may be null)
+     * @param scriptId id of the script the game was played with
+     * @param winningAlignment alignment that won the game, or null if the winners are given as players only
+     * @param storytellerIds ids of the storytellers of the game (may not be null)
+     * @param winningPlayerIds ids of the players that won the game (may not be null)
+     * @param participants participations of the players in the game, in order (may not be null)
+     */
+    public ExportedGame {
+        storytellerIds = List.copyOf(Objects.requireNonNull(storytellerIds, "Storyteller ids may not be null"));
+        winningPlayerIds = List.copyOf(Objects.requireNonNull(winningPlayerIds, "Winning player ids may not be null"));
+        participants = List.copyOf(Objects.requireNonNull(participants, "Participants may not be null"));
+    }
+}
@@ -0,0 +1,28 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A page of games referencing their script, players and characters by id only, retrieved using keyset pagination and
+ * ordered by ascending game id.
+ *
+ * @param games the games on this page (may not be null)
+ * @param nextCursor the cursor to pass to retrieve the next page (the id of the last game on this page), or null
+ *         if this is the last page
+ */
+public record ExportedGamePage(
+        List<ExportedGame> games,
+        Long nextCursor
+) {
+
+    /**
+     * Creates a new page of games.
+     *
+     * @param games the games on this page (may not be null)
+     * @param nextCursor the cursor to pass to retrieve the next page, or null if this is the last page
+     */
+    public ExportedGamePage {
+        games = List.copyOf(Objects.requireNonNull(games, "Games may not be null"));
+    }
+}
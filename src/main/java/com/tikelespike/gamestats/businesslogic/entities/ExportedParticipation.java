@@ -0,0 +1,21 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+/**
+ * The participation of a player in an exported game, referencing the player and characters by id only.
+ *
+ * @param playerId id of the participating player, or null if the player has been deleted
+ * @param initialCharacterId id of the character the player started with (may be null)
+ * @param initialAlignment alignment the player started with (may be null)
+ * @param endCharacterId id of the character the player ended with (may be null)
+ * @param endAlignment alignment the player ended with (may be null)
+ * @param isAliveAtEnd whether the player was alive at the end of the game
+ */
+public record ExportedParticipation(
+        Long playerId,
+        Long initialCharacterId,
+        Alignment initialAlignment,
+        Long endCharacterId,
+        Alignment endAlignment,
+        boolean isAliveAtEnd
+) {
+}
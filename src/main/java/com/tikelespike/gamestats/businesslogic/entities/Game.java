@@ -2,9 +2,13 @@ package com.tikelespike.gamestats.businesslogic.entities;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Default implementation of the {@link Game} interface. Has data about the players participating in the game, like the
@@ -23,6 +27,9 @@ public class Game implements HasId, HasVersion {
     private List<Player> winningPlayers;
     private String name;
     private List<Player> storytellers;
+    // derived from the fields above whenever they change, so that lookups do not have to search the lists
+    private Map<Long, PlayerParticipation> participationsByPlayerId;
+    private Set<Long> winningPlayerIds;
 
     /**
      * Creates a new game with the given data, assuming that the game was won by either all good-aligned or all
@@ -101,6 +108,17 @@ public class Game implements HasId, HasVersion {
         return new ArrayList<>(participants);
     }
 
+    /**
+     * Returns an unmodifiable view of all players that participated in this game and the data about their
+     * participation in this game. In contrast to {@link #getParticipants()}, the list is not copied, so this is the
+     * cheaper alternative for read-only access.
+     *
+     * @return an unmodifiable list of all players and their game-related data
+     */
+    public List<PlayerParticipation> getParticipantsView() {
+        return participants;
+    }
+
     /**
      * Sets the list of all players that participated in this game, along with the game-specific data about them (e.g .
      * which character they played).
@@ -109,22 +127,37 @@ public class Game implements HasId, HasVersion {
      *         same player multiple times.
      */
     public void setParticipants(List<PlayerParticipation> participants) {
-        List<Long> playerIds = participants.stream()
-                .map(participation -> participation.getPlayer())
-                .filter(Objects::nonNull)
-                .map(Player::getId)
-                .toList();
-        if (containsDuplicates(playerIds)) {
-            throw new IllegalArgumentException("The same player cannot participate multiple times in the same game.");
+        Map<Long, PlayerParticipation> byPlayerId = new HashMap<>();
+        for (PlayerParticipation participation : participants) {
+            Player player = participation.getPlayer();
+            if (player != null && byPlayerId.put(player.getId(), participation) != null) {
+                throw new IllegalArgumentException(
+                        "The same player cannot participate multiple times in the same game.");
+            }
         }
 
-        if (winningPlayers != null) {
-            winningPlayers = winningPlayers.stream()
-                    .filter(p -> playerIds.contains(p.getId()))
-                    .toList();
+        this.participants = Collections.unmodifiableList(new ArrayList<>(participants));
+        this.participationsByPlayerId = Collections.unmodifiableMap(byPlayerId);
+
+        if (winningAlignment != null) {
+            updateWinningPlayers(deriveWinningPlayers(winningAlignment));
+        } else if (winningPlayers != null) {
+            updateWinningPlayers(winningPlayers.stream()
+                    .filter(p -> byPlayerId.containsKey(p.getId()))
+                    .toList());
         }
+    }
 
-        this.participants = new ArrayList<>(participants);
+    /**
+     * Returns the participation of the player with the given id in this game. In contrast to searching the list
+     * returned by {@link #getParticipants()}, this takes constant time.
+     *
+     * @param playerId id of the player to return the participation of
+     *
+     * @return the participation of the player, or null if the player did not participate in this game
+     */
+    public PlayerParticipation getParticipation(Long playerId) {
+        return participationsByPlayerId.get(playerId);
     }
 
     /**
@@ -163,17 +196,7 @@ public class Game implements HasId, HasVersion {
      */
     public void setWinningAlignment(Alignment winningAlignment) {
         this.winningAlignment = Objects.requireNonNull(winningAlignment);
-        this.winningPlayers = participants.stream()
-                .map(PlayerParticipation::getPlayer)
-                .filter(Objects::nonNull)
-                .filter(p -> {
-                    PlayerParticipation participation = participants.stream()
-                            .filter(pp -> pp.getPlayer() != null && pp.getPlayer().getId().equals(p.getId()))
-                            .findFirst()
-                            .orElseThrow();
-                    return participation.getEndAlignment() == winningAlignment;
-                })
-                .toList();
+        updateWinningPlayers(deriveWinningPlayers(winningAlignment));
     }
 
     /**
@@ -206,16 +229,31 @@ public class Game implements HasId, HasVersion {
      * @return the list of players that won this game
      */
     public List<Player> getWinningPlayers() {
-        if (winningAlignment != null) {
-            return getParticipants().stream()
-                    .filter(entry -> entry.getEndAlignment() == getWinningAlignment())
-                    .map(PlayerParticipation::getPlayer)
-                    .filter(Objects::nonNull)
-                    .toList();
-        }
         return winningPlayers;
     }
 
+    /**
+     * Returns the ids of the players that won this game, that is, of the players returned by
+     * {@link #getWinningPlayers()}.
+     *
+     * @return an unmodifiable set of the ids of the players that won this game
+     */
+    public Set<Long> getWinningPlayerIds() {
+        return winningPlayerIds;
+    }
+
+    /**
+     * Checks whether the player with the given id won this game. In contrast to searching the list returned by
+     * {@link #getWinningPlayers()}, this takes constant time.
+     *
+     * @param playerId id of the player to check
+     *
+     * @return true if the player is one of the players that won this game, false otherwise
+     */
+    public boolean isWinner(Long playerId) {
+        return winningPlayerIds.contains(playerId);
+    }
+
     /**
      * Manually sets the list of players that won this game. Only use this if the winning players are not defined by
      * their alignment (use {@link #setWinningAlignment(Alignment)} if one of the two alignments won). Calling this
@@ -232,7 +270,7 @@ public class Game implements HasId, HasVersion {
             throw new IllegalArgumentException("Winning players may not contain null values.");
         }
         // we allow players to win that did not participate in the game (e.g. storyteller wins or similar)
-        this.winningPlayers = winningPlayers;
+        updateWinningPlayers(winningPlayers);
         this.winningAlignment = null;
     }
 
@@ -263,6 +301,16 @@ public class Game implements HasId, HasVersion {
         return new ArrayList<>(storytellers);
     }
 
+    /**
+     * Returns an unmodifiable view of the players that acted as storytellers for this game. In contrast to
+     * {@link #getStorytellers()}, the list is not copied.
+     *
+     * @return an unmodifiable list of the storytellers for this game
+     */
+    public List<Player> getStorytellersView() {
+        return storytellers;
+    }
+
     /**
      * Sets the list of players that acted as storytellers for this game.
      *
@@ -277,7 +325,23 @@ public class Game implements HasId, HasVersion {
                 .anyMatch(Objects::isNull)) {
             throw new NullPointerException("Storytellers may not contain null values.");
         }
-        this.storytellers = new ArrayList<>(storytellers);
+        this.storytellers = Collections.unmodifiableList(new ArrayList<>(storytellers));
+    }
+
+    // single pass over the participants, as the participations are unique per player
+    private List<Player> deriveWinningPlayers(Alignment alignment) {
+        return participants.stream()
+                .filter(participation -> participation.getEndAlignment() == alignment)
+                .map(PlayerParticipation::getPlayer)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private void updateWinningPlayers(List<Player> players) {
+        this.winningPlayers = List.copyOf(players);
+        Set<Long> ids = new HashSet<>();
+        players.forEach(player -> ids.add(player.getId()));
+        this.winningPlayerIds = Collections.unmodifiableSet(ids);
     }
 
     private <T> boolean containsDuplicates(Collection<T> collection) {
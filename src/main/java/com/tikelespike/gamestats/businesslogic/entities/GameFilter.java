@@ -0,0 +1,25 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+/**
+ * Optional criteria restricting which games are retrieved. Criteria that are null are not applied.
+ *
+ * @param scriptId only retrieve games played with the script with this id
+ * @param playerId only retrieve games the player with this id took part in (as participant or storyteller)
+ * @param winningAlignment only retrieve games won by this alignment (games won by an explicit list of players
+ *         are excluded if this is set)
+ */
+public record GameFilter(
+        Long scriptId,
+        Long playerId,
+        Alignment winningAlignment
+) {
+
+    /**
+     * Creates a filter that does not restrict the retrieved games.
+     *
+     * @return a filter matching all games
+     */
+    public static GameFilter none() {
+        return new GameFilter(null, null, null);
+    }
+}
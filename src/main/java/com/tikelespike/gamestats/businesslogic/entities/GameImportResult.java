@@ -0,0 +1,45 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+/**
+ * The outcome of creating a single game as part of a batch of games: either the created game, or the reason the game
+ * was rejected.
+ *
+ * @param game the created game, or null if the game was rejected
+ * @param error human-readable reason the game was rejected, or null if it was created
+ */
+public record GameImportResult(
+        Game game,
+        String error
+) {
+
+    /**
+     * Creates the result of a game that has been created successfully.
+     *
+     * @param game the created game (may not be null)
+     *
+     * @return the result of the game
+     */
+    public static GameImportResult created(Game game) {
+        return new GameImportResult(game, null);
+    }
+
+    /**
+     * Creates the result of a game that has been rejected.
+     *
+     * @param error human-readable reason the game was rejected (may not be null)
+     *
+     * @return the result of the game
+     */
+    public static GameImportResult rejected(String error) {
+        return new GameImportResult(null, error);
+    }
+
+    /**
+     * Returns whether the game has been created.
+     *
+     * @return true if and only if the game has been created
+     */
+    public boolean isCreated() {
+        return game != null;
+    }
+}
@@ -4,7 +4,6 @@ import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Statistics about a player, like the number of games won.
@@ -29,6 +28,36 @@ public final class PlayerStats {
         this.player = Objects.requireNonNull(player);
     }
 
+    /**
+     * Creates a new player statistics object with the given, already aggregated values (for example when restoring
+     * statistics that have been stored previously).
+     *
+     * @param player the player this statistics are about (may not be null)
+     * @param totalGamesPlayed the total number of games this player has played, either as a player or as a
+     *         storyteller
+     * @param totalWins the total number of games this player has won
+     * @param timesStoryteller the number of games this player has acted as storyteller for
+     * @param timesDeadAtEnd the number of games where the player was dead at the end of the game
+     * @param timesGood the number of games where the player was on the good team at the end
+     * @param timesEvil the number of games where the player was on the evil team at the end
+     * @param characterTypeCounts number of times this player has played a character of each type (may not be
+     *         null)
+     * @param characterPlayingCounts number of games this player has played each character (may not be null)
+     */
+    public PlayerStats(Player player, int totalGamesPlayed, int totalWins, int timesStoryteller, int timesDeadAtEnd,
+                       int timesGood, int timesEvil, Map<CharacterType, Integer> characterTypeCounts,
+                       Map<Character, Integer> characterPlayingCounts) {
+        this(player);
+        this.totalGamesPlayed = totalGamesPlayed;
+        this.totalWins = totalWins;
+        this.timesStoryteller = timesStoryteller;
+        this.timesDeadAtEnd = timesDeadAtEnd;
+        this.timesGood = timesGood;
+        this.timesEvil = timesEvil;
+        this.characterTypeCounts.putAll(characterTypeCounts);
+        this.characterPlayingCounts.putAll(characterPlayingCounts);
+    }
+
     /**
      * Updates these statistics with the data from a new game not yet tracked by this object.
      *
@@ -37,25 +66,62 @@ public final class PlayerStats {
     public void addGame(Game game) {
         Objects.requireNonNull(game, "Game must not be null");
 
-        if (game.getStorytellers().contains(player)) {
-            timesStoryteller++;
-            totalGamesPlayed++;
+        if (game.getStorytellersView().contains(player)) {
+            addStorytelling();
             return;
         }
 
-        Optional<PlayerParticipation> optParticipation = game.getParticipants().stream()
-                .filter(p -> player.equals(p.getPlayer()))
-                .findFirst();
-
-        if (optParticipation.isEmpty()) {
+        PlayerParticipation participation = game.getParticipation(player.getId());
+        if (participation == null || !player.equals(participation.getPlayer())) {
             return;
         }
 
-        PlayerParticipation participation = optParticipation.get();
+        addParticipation(participation, game.isWinner(player.getId()));
+    }
+
+    /**
+     * Adds the statistics of another, disjoint set of games of the same player to these statistics (for example, when
+     * combining partial statistics computed in parallel).
+     *
+     * @param other statistics of the same player over games not yet tracked by this object (may not be null)
+     *
+     * @throws IllegalArgumentException if the other statistics are about a different player
+     */
+    public void merge(PlayerStats other) {
+        Objects.requireNonNull(other, "Statistics to merge must not be null");
+        if (!Objects.equals(player.getId(), other.player.getId())) {
+            throw new IllegalArgumentException("Cannot merge statistics of different players");
+        }
+
+        totalGamesPlayed += other.totalGamesPlayed;
+        totalWins += other.totalWins;
+        timesStoryteller += other.timesStoryteller;
+        timesDeadAtEnd += other.timesDeadAtEnd;
+        timesGood += other.timesGood;
+        timesEvil += other.timesEvil;
+        other.characterTypeCounts.forEach((type, count) -> characterTypeCounts.merge(type, count, Integer::sum));
+        other.characterPlayingCounts.forEach((character, count) ->
+                characterPlayingCounts.merge(character, count, Integer::sum));
+    }
+
+    /**
+     * Counts a game this player has acted as storyteller for.
+     */
+    void addStorytelling() {
+        timesStoryteller++;
+        totalGamesPlayed++;
+    }
 
+    /**
+     * Counts a game this player has participated in (not as storyteller).
+     *
+     * @param participation the participation of this player in the game (may not be null)
+     * @param won whether this player is one of the winners of the game
+     */
+    void addParticipation(PlayerParticipation participation, boolean won) {
         totalGamesPlayed++;
 
-        if (game.getWinningPlayers().contains(player)) {
+        if (won) {
             totalWins++;
         }
 
@@ -0,0 +1,154 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Computes the statistics of all players involved in a set of games in a single pass over those games. Instead of
+ * letting every player's {@link PlayerStats} scan every game, each participation of a game is routed directly to the
+ * statistics of its player, so that aggregating a list of games costs time linear in the total number of
+ * participations. Players are identified by their id.
+ * <p>
+ * The resulting numbers are identical to those obtained by calling {@link PlayerStats#addGame(Game)} with every game
+ * for every player.
+ * <p>
+ * Instances are not thread-safe. To aggregate large game histories on multiple cores, use
+ * {@link #aggregateInParallel(List, ForkJoinPool)}, which aggregates chunks of the games in separate instances and
+ * merges the partial results.
+ */
+public final class PlayerStatsAggregator {
+
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final Map<Long, PlayerStats> statsByPlayerId = new LinkedHashMap<>();
+
+    /**
+     * Aggregates the given games by splitting them into chunks that are aggregated in parallel on the given fork-join
+     * pool, and merging the partial results. The result is identical to adding all games to a single aggregator.
+     *
+     * @param games the games to aggregate (may not be null). The list must not be modified during aggregation.
+     * @param pool the fork-join pool to run the aggregation on (may not be null)
+     *
+     * @return an aggregator containing the statistics of all players involved in the given games
+     */
+    public static PlayerStatsAggregator aggregateInParallel(List<Game> games, ForkJoinPool pool) {
+        Objects.requireNonNull(games, "Games must not be null");
+        Objects.requireNonNull(pool, "Pool must not be null");
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, games.size() / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new AggregationTask(games, 0, games.size(), chunkSize));
+    }
+
+    /**
+     * Adds a single game to the aggregated statistics of all players involved in it (as storyteller or participant).
+     *
+     * @param game the game to add (may not be null)
+     */
+    public void addGame(Game game) {
+        Objects.requireNonNull(game, "Game must not be null");
+
+        Set<Long> storytellerIds = new HashSet<>();
+        for (Player storyteller : game.getStorytellersView()) {
+            if (storyteller != null && storytellerIds.add(storyteller.getId())) {
+                statsOf(storyteller).addStorytelling();
+            }
+        }
+
+        Set<Long> countedPlayerIds = new HashSet<>();
+        for (PlayerParticipation participation : game.getParticipantsView()) {
+            Player player = participation.getPlayer();
+            // storytellers are only counted as such, and only the first participation of a player counts
+            if (player == null || storytellerIds.contains(player.getId()) || !countedPlayerIds.add(player.getId())) {
+                continue;
+            }
+            statsOf(player).addParticipation(participation, game.isWinner(player.getId()));
+        }
+    }
+
+    /**
+     * Adds multiple games to the aggregated statistics.
+     *
+     * @param games the games to add (may not be null)
+     */
+    public void addGames(Iterable<Game> games) {
+        Objects.requireNonNull(games, "Games must not be null");
+        games.forEach(this::addGame);
+    }
+
+    /**
+     * Adds the statistics aggregated by another aggregator over a disjoint set of games to this aggregator.
+     *
+     * @param other the aggregator to merge into this one (may not be null)
+     */
+    public void merge(PlayerStatsAggregator other) {
+        Objects.requireNonNull(other, "Aggregator to merge must not be null");
+        other.statsByPlayerId.values().forEach(stats -> statsOf(stats.player()).merge(stats));
+    }
+
+    /**
+     * Returns the aggregated statistics of the given player. If the player has not been involved in any of the games
+     * added so far, empty statistics are returned.
+     *
+     * @param player the player to retrieve the statistics of (may not be null)
+     *
+     * @return the statistics of the player
+     */
+    public PlayerStats getStatistics(Player player) {
+        Objects.requireNonNull(player, "Player must not be null");
+        PlayerStats stats = statsByPlayerId.get(player.getId());
+        return stats != null ? stats : new PlayerStats(player);
+    }
+
+    /**
+     * Returns the aggregated statistics of all players that have been involved in at least one of the games added so
+     * far, in the order in which the players have been encountered.
+     *
+     * @return the list of statistics of all involved players
+     */
+    public List<PlayerStats> getAllStatistics() {
+        return new ArrayList<>(statsByPlayerId.values());
+    }
+
+    private PlayerStats statsOf(Player player) {
+        return statsByPlayerId.computeIfAbsent(player.getId(), id -> new PlayerStats(player));
+    }
+
+    private static final class AggregationTask extends RecursiveTask<PlayerStatsAggregator> {
+        private final List<Game> games;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        private AggregationTask(List<Game> games, int from, int to, int chunkSize) {
+            this.games = games;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected PlayerStatsAggregator compute() {
+            if (to - from <= chunkSize) {
+                PlayerStatsAggregator aggregator = new PlayerStatsAggregator();
+                aggregator.addGames(games.subList(from, to));
+                return aggregator;
+            }
+
+            int middle = (from + to) >>> 1;
+            AggregationTask left = new AggregationTask(games, from, middle, chunkSize);
+            left.fork();
+            PlayerStatsAggregator rightResult = new AggregationTask(games, middle, to, chunkSize).compute();
+            // merging the right half into the left one preserves the order in which players are encountered
+            PlayerStatsAggregator leftResult = left.join();
+            leftResult.merge(rightResult);
+            return leftResult;
+        }
+    }
+}
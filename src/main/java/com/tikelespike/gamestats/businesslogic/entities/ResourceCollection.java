@@ -0,0 +1,32 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+/**
+ * A collection of all resources of one type registered in the system. Each collection has a revision that changes
+ * whenever resources of the collection are changed.
+ */
+public enum ResourceCollection {
+    /**
+     * All games.
+     */
+    GAMES,
+
+    /**
+     * All scripts.
+     */
+    SCRIPTS,
+
+    /**
+     * All characters.
+     */
+    CHARACTERS,
+
+    /**
+     * All players.
+     */
+    PLAYERS,
+
+    /**
+     * All user accounts.
+     */
+    USERS
+}
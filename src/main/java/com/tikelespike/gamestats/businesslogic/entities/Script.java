@@ -1,5 +1,6 @@
 package com.tikelespike.gamestats.businesslogic.entities;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -114,13 +115,23 @@ public class Script implements HasId, HasWikiPage, HasVersion {
         return new HashSet<>(characters);
     }
 
+    /**
+     * Returns an unmodifiable view of the characters that may appear in a game when using this script. In contrast to
+     * {@link #getCharacters()}, the set is not copied.
+     *
+     * @return an unmodifiable set of the characters that may appear in a game when using this script
+     */
+    public Set<Character> getCharactersView() {
+        return characters;
+    }
+
     /**
      * Sets the characters that may appear in a game when using this script.
      *
      * @param characters the characters that may appear in a game when using this script. May not be null.
      */
     public void setCharacters(Set<Character> characters) {
-        this.characters = new HashSet<>(characters);
+        this.characters = Collections.unmodifiableSet(new HashSet<>(characters));
     }
 
     @Override
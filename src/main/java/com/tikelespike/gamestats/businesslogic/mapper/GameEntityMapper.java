@@ -49,7 +49,7 @@ public class GameEntityMapper extends Mapper<Game, GameEntity> {
     @Override
     protected Game toBusinessObjectNoCheck(GameEntity transferObject) {
         Script script = scriptMapper.toBusinessObject(transferObject.getScript());
-        List<PlayerParticipation> participations = transferObject.getParticipants().stream()
+        List<PlayerParticipation> participations = transferObject.getParticipantsView().stream()
                 .map(playerParticipationMapper::toBusinessObject)
                 .toList();
         Alignment winningAlignment = alignmentMapper.toBusinessObject(transferObject.getWinningAlignment());
@@ -89,7 +89,7 @@ public class GameEntityMapper extends Mapper<Game, GameEntity> {
     @Override
     protected GameEntity toTransferObjectNoCheck(Game businessObject) {
         ScriptEntity script = scriptMapper.toTransferObject(businessObject.getScript());
-        List<PlayerParticipationEntity> participations = businessObject.getParticipants().stream()
+        List<PlayerParticipationEntity> participations = businessObject.getParticipantsView().stream()
                 .map(playerParticipationMapper::toTransferObject)
                 .toList();
         AlignmentEntity winningAlignment = alignmentMapper.toTransferObject(businessObject.getWinningAlignment());
@@ -97,8 +97,8 @@ public class GameEntityMapper extends Mapper<Game, GameEntity> {
                 : businessObject.getWinningPlayers().stream()
                         .map(playerMapper::toTransferObject)
                         .toList();
-        List<PlayerEntity> storytellers = businessObject.getStorytellers() == null ? new ArrayList<>()
-                : businessObject.getStorytellers().stream()
+        List<PlayerEntity> storytellers = businessObject.getStorytellersView() == null ? new ArrayList<>()
+                : businessObject.getStorytellersView().stream()
                         .map(playerMapper::toTransferObject)
                         .toList();
 
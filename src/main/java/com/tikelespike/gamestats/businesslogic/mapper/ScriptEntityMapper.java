@@ -35,7 +35,7 @@ public class ScriptEntityMapper extends Mapper<Script, ScriptEntity> {
                 transferObject.getWikiPageLink(),
                 transferObject.getName(),
                 transferObject.getDescription(),
-                transferObject.getCharacters().stream().map(characterMapper::toBusinessObject)
+                transferObject.getCharactersView().stream().map(characterMapper::toBusinessObject)
                         .collect(Collectors.toSet())
         );
     }
@@ -48,7 +48,7 @@ public class ScriptEntityMapper extends Mapper<Script, ScriptEntity> {
                 businessObject.getName(),
                 businessObject.getWikiPageLink(),
                 businessObject.getDescription(),
-                businessObject.getCharacters().stream().map(characterMapper::toTransferObject).toList()
+                businessObject.getCharactersView().stream().map(characterMapper::toTransferObject).toList()
         );
     }
 }
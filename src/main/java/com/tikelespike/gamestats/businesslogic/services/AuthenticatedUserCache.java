@@ -0,0 +1,108 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.AuthenticatedUser;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of authenticated users by their username. Entries expire a fixed time after they have been cached. Once
+ * the cache is full, caching another user replaces the least recently used entry, so looking up and caching a user
+ * takes constant time regardless of the size of the cache.
+ */
+final class AuthenticatedUserCache {
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final Clock clock;
+    // a lock instead of a monitor, so that virtual threads waiting for it do not pin their carrier threads
+    private final ReentrantLock lock = new ReentrantLock();
+    // in access order, so the eldest entry is the least recently used one
+    private final Map<String, Entry> entries;
+    // increased by every eviction, so a user loaded concurrently to an eviction is not cached
+    private long evictionCount;
+
+    /**
+     * Creates a new, empty cache.
+     *
+     * @param ttl how long a user is cached (may not be null)
+     * @param maxSize the maximum number of cached users (no user is cached if not positive)
+     * @param clock the clock determining when cached users expire (may not be null)
+     */
+    AuthenticatedUserCache(Duration ttl, int maxSize, Clock clock) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached user with the given username if it has not expired yet. Otherwise, the user is loaded (outside
+     * the lock of the cache) and cached, unless a user was evicted while loading it.
+     *
+     * @param username the username of the user
+     * @param loader loads the user with the given username, returning null if no such user exists
+     *
+     * @return the user with the given username, or null if no such user exists
+     */
+    AuthenticatedUser get(String username, Function<String, AuthenticatedUser> loader) {
+        long evictionsBeforeLoading;
+        lock.lock();
+        try {
+            Entry entry = entries.get(username);
+            if (entry != null) {
+                if (entry.expiresAt().isAfter(clock.instant())) {
+                    return entry.user();
+                }
+                entries.remove(username);
+            }
+            evictionsBeforeLoading = evictionCount;
+        } finally {
+            lock.unlock();
+        }
+
+        AuthenticatedUser user = loader.apply(username);
+        if (user == null || maxSize <= 0) {
+            return user;
+        }
+        lock.lock();
+        try {
+            // otherwise, the user may have been changed after it was loaded
+            if (evictionCount == evictionsBeforeLoading) {
+                entries.put(username, new Entry(user, clock.instant().plus(ttl)));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return user;
+    }
+
+    /**
+     * Removes the user with the given id from the cache. This takes time linear in the size of the cache, but is only
+     * necessary when a user is changed or deleted.
+     *
+     * @param id the id of the user
+     */
+    void evict(long id) {
+        lock.lock();
+        try {
+            evictionCount++;
+            entries.values().removeIf(entry -> entry.user().getId() == id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(AuthenticatedUser user, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Immutable snapshot of all characters known to the system, indexed by their id. Changes create a new snapshot, so a
+ * snapshot can be read by any number of threads without locking. As characters are mutable, the snapshot only hands out
+ * copies of the characters it contains.
+ */
+final class CharacterCatalogue {
+
+    private final Map<Long, Character> charactersById;
+
+    private CharacterCatalogue(Map<Long, Character> charactersById) {
+        this.charactersById = Collections.unmodifiableMap(charactersById);
+    }
+
+    /**
+     * Creates a snapshot containing the given characters.
+     *
+     * @param characters all characters known to the system (may not be null)
+     *
+     * @return the snapshot
+     */
+    static CharacterCatalogue of(Collection<Character> characters) {
+        Map<Long, Character> charactersById = new TreeMap<>();
+        for (Character character : characters) {
+            charactersById.put(character.getId(), copy(character));
+        }
+        return new CharacterCatalogue(charactersById);
+    }
+
+    /**
+     * Returns the character with the given id.
+     *
+     * @param id the id of the character
+     *
+     * @return a copy of the character with the given id, or null if it is not part of this snapshot
+     */
+    Character get(long id) {
+        Character character = charactersById.get(id);
+        return character == null ? null : copy(character);
+    }
+
+    /**
+     * Returns all characters in this snapshot.
+     *
+     * @return copies of all characters, ordered by id
+     */
+    List<Character> getAll() {
+        return charactersById.values().stream().map(CharacterCatalogue::copy).toList();
+    }
+
+    /**
+     * Passes all characters in this snapshot to the given action, one copy at a time.
+     *
+     * @param action action to perform for a copy of every character, in ascending order of their ids (may not be
+     *         null)
+     */
+    void forEach(Consumer<Character> action) {
+        charactersById.values().forEach(character -> action.accept(copy(character)));
+    }
+
+    /**
+     * Creates a new snapshot containing the given characters in addition to (or instead of older versions of) the
+     * characters of this snapshot. Characters that are already contained in the same or a newer version are not
+     * replaced, so the snapshot never goes back to an outdated version if changes are applied out of order.
+     *
+     * @param characters the created or updated characters (may not be null)
+     *
+     * @return the new snapshot
+     */
+    CharacterCatalogue withCharacters(Collection<Character> characters) {
+        Map<Long, Character> charactersById = new TreeMap<>(this.charactersById);
+        for (Character character : characters) {
+            Character cached = charactersById.get(character.getId());
+            if (cached == null || cached.getVersion() < character.getVersion()) {
+                charactersById.put(character.getId(), copy(character));
+            }
+        }
+        return new CharacterCatalogue(charactersById);
+    }
+
+    /**
+     * Creates a new snapshot not containing the characters with the given ids.
+     *
+     * @param ids the ids of the deleted characters (may not be null)
+     *
+     * @return the new snapshot
+     */
+    CharacterCatalogue withoutCharacters(Collection<Long> ids) {
+        Map<Long, Character> charactersById = new TreeMap<>(this.charactersById);
+        ids.forEach(charactersById::remove);
+        return new CharacterCatalogue(charactersById);
+    }
+
+    /**
+     * Creates a copy of the given character that can be modified independently of it.
+     *
+     * @param character the character to copy (may not be null)
+     *
+     * @return the copy
+     */
+    static Character copy(Character character) {
+        return new Character(
+                character.getId(),
+                character.getVersion(),
+                character.getScriptToolIdentifier(),
+                character.getName(),
+                character.getCharacterType(),
+                character.getWikiPageLink(),
+                character.getImageUrl()
+        );
+    }
+}
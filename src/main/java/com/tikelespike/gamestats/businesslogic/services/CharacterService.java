@@ -3,6 +3,7 @@ package com.tikelespike.gamestats.businesslogic.services;
 import com.tikelespike.gamestats.businesslogic.entities.Character;
 import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
 import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.exceptions.ResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
 import com.tikelespike.gamestats.common.Mapper;
@@ -16,17 +17,29 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
- * Service class for managing characters registered within the application.
+ * Service class for managing characters registered within the application. As characters are read much more often than
+ * they are changed, all characters are kept in an in-memory snapshot that is loaded on first access and replaced
+ * whenever a character is created, updated or deleted through this service.
  */
 @Service
 public class CharacterService {
     private final CharacterRepository characterRepository;
     private final Mapper<Character, CharacterEntity> characterMapper;
     private final Mapper<CharacterType, CharacterTypeEntity> typeMapper;
+    private final StatService statService;
+    private final ScriptService scriptService;
+    private final RevisionService revisionService;
+    private final SnapshotReference<CharacterCatalogue> catalogue;
 
     /**
      * Creates a new character service. This is usually done by the Spring framework, which manages the service's
@@ -36,13 +49,22 @@ public class CharacterService {
      * @param characterMapper mapper for converting between character business objects and character entities
      * @param typeMapper mapper for converting between character type business objects and character type
      *         entities
+     * @param statService service maintaining the player statistics, which depend on the characters played
+     * @param scriptService service managing the scripts, which contain characters
+     * @param revisionService service keeping track of changes to the characters and the resources referencing
+     *         them
      */
     public CharacterService(CharacterRepository characterRepository,
                             Mapper<Character, CharacterEntity> characterMapper,
-                            Mapper<CharacterType, CharacterTypeEntity> typeMapper) {
+                            Mapper<CharacterType, CharacterTypeEntity> typeMapper, StatService statService,
+                            ScriptService scriptService, RevisionService revisionService) {
         this.characterRepository = characterRepository;
         this.characterMapper = characterMapper;
         this.typeMapper = typeMapper;
+        this.statService = statService;
+        this.scriptService = scriptService;
+        this.revisionService = revisionService;
+        this.catalogue = new SnapshotReference<>(this::loadCatalogue);
     }
 
     /**
@@ -52,9 +74,13 @@ public class CharacterService {
      *
      * @return the character as created in the system (now including automatically populated fields)
      */
+    @Transactional
     public Character createCharacter(CharacterCreationRequest creationRequest) {
         CharacterEntity character = createEntityFromCreationRequest(creationRequest);
-        return characterMapper.toBusinessObject(characterRepository.save(character));
+        Character savedCharacter = characterMapper.toBusinessObject(characterRepository.save(character));
+        catalogue.update(snapshot -> snapshot.withCharacters(List.of(savedCharacter)));
+        revisionService.recordChange(ResourceCollection.CHARACTERS);
+        return savedCharacter;
     }
 
     /**
@@ -77,9 +103,12 @@ public class CharacterService {
         List<CharacterEntity> savedCharacters = new ArrayList<>();
         savedEntities.forEach(savedCharacters::add);
 
-        return savedCharacters.stream()
+        List<Character> createdCharacters = savedCharacters.stream()
                 .map(characterMapper::toBusinessObject)
                 .toList();
+        catalogue.update(snapshot -> snapshot.withCharacters(createdCharacters));
+        revisionService.recordChange(ResourceCollection.CHARACTERS);
+        return createdCharacters;
     }
 
     private CharacterEntity createEntityFromCreationRequest(CharacterCreationRequest creationRequest) {
@@ -103,18 +132,32 @@ public class CharacterService {
      * @throws ResourceNotFoundException if the character with the given id does not exist
      * @throws StaleDataException if the character has been modified or deleted in the meantime (concurrently)
      */
+    @Transactional(rollbackFor = {StaleDataException.class})
     public Character updateCharacter(Character character) throws ResourceNotFoundException, StaleDataException {
-        if (characterRepository.findById(character.getId()) == null) {
+        CharacterEntity existingEntity = characterRepository.findById(character.getId());
+        if (existingEntity == null) {
             throw new ResourceNotFoundException("Character with id " + character.getId() + " does not exist");
         }
+        boolean typeChanged = existingEntity.getCharacterType() != typeMapper.toTransferObject(
+                character.getCharacterType());
         CharacterEntity entityToSave = characterMapper.toTransferObject(character);
         CharacterEntity savedEntity;
         try {
             savedEntity = characterRepository.save(entityToSave);
+            // the version is only incremented when flushing, and only a newer version replaces the cached character
+            characterRepository.flush();
         } catch (StaleObjectStateException | OptimisticLockException | ObjectOptimisticLockingFailureException e) {
             throw new StaleDataException(e);
         }
-        return characterMapper.toBusinessObject(savedEntity);
+        Character savedCharacter = characterMapper.toBusinessObject(savedEntity);
+        catalogue.update(snapshot -> snapshot.withCharacters(List.of(savedCharacter)));
+        scriptService.evictCachedScripts();
+        revisionService.recordChange(ResourceCollection.CHARACTERS);
+        if (typeChanged) {
+            // the stored character type counts of all players who played this character are outdated now
+            statService.rebuildPlayerStatisticsAfterCommit();
+        }
+        return savedCharacter;
     }
 
     /**
@@ -123,7 +166,18 @@ public class CharacterService {
      * @return the list of characters currently known to the system.
      */
     public List<Character> getAllCharacters() {
-        return characterRepository.findAll().stream().map(characterMapper::toBusinessObject).toList();
+        return catalogue.get().getAll();
+    }
+
+    /**
+     * Passes all characters currently known to the system to the given action, without collecting them in a list
+     * first.
+     *
+     * @param action action to perform for every character, in ascending order of their ids (may not be null)
+     */
+    public void forEachCharacter(Consumer<Character> action) {
+        Objects.requireNonNull(action, "Action may not be null");
+        catalogue.get().forEach(action);
     }
 
     /**
@@ -134,23 +188,43 @@ public class CharacterService {
      * @return the character with the given id, or null if no such character exists
      */
     public Character getCharacter(long id) {
-        return characterMapper.toBusinessObject(characterRepository.findById(id));
+        return catalogue.get().get(id);
     }
 
     /**
-     * Returns the list of characters with the given ids.
+     * Retrieves all characters with the given ids. Ids of characters that do not exist are ignored.
+     *
+     * @param ids the ids of the characters to retrieve (may not be null)
+     *
+     * @return the characters with the given ids that exist, in no particular order
+     */
+    public List<Character> getExistingCharacters(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "Ids may not be null");
+        CharacterCatalogue snapshot = catalogue.get();
+        return ids.stream().distinct().map(snapshot::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Returns the list of characters with the given ids. The characters are looked up by their ids, independent of
+     * the number of characters known to the system.
      *
      * @param ids the ids of the characters to retrieve
      *
-     * @return the list of characters with the given ids
+     * @return the list of characters with the given ids, in the order of their (first) occurrence in the given list
      * @throws ResourceNotFoundException if at least one of the characters with the given ids does not exist
      */
     public List<Character> getCharactersByIds(List<Long> ids) {
-        List<Character> foundCharacters = getAllCharacters().stream().filter(c -> ids.contains(c.getId())).toList();
-        if (foundCharacters.size() != ids.size()) {
-            throw new ResourceNotFoundException("At least one of the characters with the given ids does not exist");
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        Map<Long, Character> foundCharacters = new HashMap<>();
+        for (Character character : getExistingCharacters(requestedIds)) {
+            foundCharacters.put(character.getId(), character);
         }
-        return foundCharacters;
+
+        if (foundCharacters.size() != requestedIds.size()) {
+            List<Long> missingIds = requestedIds.stream().filter(id -> !foundCharacters.containsKey(id)).toList();
+            throw new ResourceNotFoundException("Characters with ids " + missingIds + " do not exist");
+        }
+        return requestedIds.stream().map(foundCharacters::get).toList();
     }
 
     /**
@@ -166,6 +240,10 @@ public class CharacterService {
         }
 
         characterRepository.deleteById(id);
+        catalogue.update(snapshot -> snapshot.withoutCharacters(List.of(id)));
+        scriptService.evictCachedScripts();
+        recordDeletion();
+        refreshPlayerStatisticsAfterDeletion();
     }
 
     /**
@@ -190,5 +268,26 @@ public class CharacterService {
         for (CharacterEntity character : charactersToDelete) {
             characterRepository.deleteById(character.getId());
         }
+        List<Long> deletedIds = charactersToDelete.stream().map(CharacterEntity::getId).toList();
+        catalogue.update(snapshot -> snapshot.withoutCharacters(deletedIds));
+        scriptService.evictCachedScripts();
+        recordDeletion();
+        refreshPlayerStatisticsAfterDeletion();
+    }
+
+    private CharacterCatalogue loadCatalogue() {
+        return CharacterCatalogue.of(
+                characterRepository.findAll().stream().map(characterMapper::toBusinessObject).toList());
+    }
+
+    private void recordDeletion() {
+        // scripts and games containing the deleted characters lose them
+        revisionService.recordChange(ResourceCollection.CHARACTERS, ResourceCollection.SCRIPTS,
+                ResourceCollection.GAMES);
+    }
+
+    private void refreshPlayerStatisticsAfterDeletion() {
+        // games referencing deleted characters lose those references, so the stored statistics no longer match them
+        statService.rebuildPlayerStatisticsAfterCommit();
     }
 }
@@ -0,0 +1,203 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGame;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedParticipation;
+import com.tikelespike.gamestats.common.Mapper;
+import com.tikelespike.gamestats.data.entities.AlignmentEntity;
+import com.tikelespike.gamestats.data.projections.GameExportRow;
+import com.tikelespike.gamestats.data.projections.GamePlayerRow;
+import com.tikelespike.gamestats.data.projections.ParticipationExportRow;
+import com.tikelespike.gamestats.data.repositories.GameExportRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Service reading games that reference their script, players and characters by id only, for example to export the
+ * complete game history or to list games. Instead of loading the games with their players, characters and scripts, the
+ * games, participations, storytellers and winners are read as flat rows sorted by game id. These are merged into
+ * exported games one game at a time, so the memory needed for an export does not depend on the number of games.
+ */
+@Service
+public class GameExportService {
+
+    private final GameExportRepository exportRepository;
+    private final Mapper<Alignment, AlignmentEntity> alignmentMapper;
+
+    /**
+     * Creates a new game export service. This is usually done by the Spring framework, which manages the service's
+     * lifecycle and injects the required dependencies.
+     *
+     * @param exportRepository repository reading the game history as flat rows
+     * @param alignmentMapper mapper for converting between alignment business objects and alignment entities
+     */
+    public GameExportService(GameExportRepository exportRepository,
+                             Mapper<Alignment, AlignmentEntity> alignmentMapper) {
+        this.exportRepository = exportRepository;
+        this.alignmentMapper = alignmentMapper;
+    }
+
+    /**
+     * Exports all games in the application, ordered by ascending id. Each game is passed to the consumer as soon as it
+     * has been read and is not retained afterward. All games are read from the same snapshot of the database, so
+     * changes made concurrently to the export are not (partially) visible in it.
+     *
+     * @param consumer consumer to pass each game to (may not be null)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void exportGames(Consumer<ExportedGame> consumer) {
+        Objects.requireNonNull(consumer, "Consumer may not be null");
+        try (Stream<GameExportRow> games = exportRepository.streamGames();
+             Stream<ParticipationExportRow> participations = exportRepository.streamParticipations();
+             Stream<GamePlayerRow> storytellers = exportRepository.streamStorytellers();
+             Stream<GamePlayerRow> winners = exportRepository.streamWinningPlayers()) {
+            mergeRows(games.iterator(), participations.iterator(), storytellers.iterator(), winners.iterator(),
+                    consumer);
+        }
+    }
+
+    /**
+     * Retrieves the games with the given ids, ordered by ascending id. Only the rows of these games are read, and none
+     * of the referenced scripts, players or characters are loaded.
+     *
+     * @param gameIds ids of the games to retrieve (may not be null, games that do not exist are omitted)
+     *
+     * @return the games with the given ids
+     */
+    @Transactional(readOnly = true)
+    public List<ExportedGame> getGames(Collection<Long> gameIds) {
+        Objects.requireNonNull(gameIds, "Game ids may not be null");
+        if (gameIds.isEmpty()) {
+            return List.of();
+        }
+        List<ExportedGame> games = new ArrayList<>(gameIds.size());
+        mergeRows(
+                exportRepository.findGames(gameIds).iterator(),
+                exportRepository.findParticipations(gameIds).iterator(),
+                exportRepository.findStorytellers(gameIds).iterator(),
+                exportRepository.findWinningPlayers(gameIds).iterator(),
+                games::add
+        );
+        return games;
+    }
+
+    // all rows have to be sorted by game id
+    private void mergeRows(Iterator<GameExportRow> games, Iterator<ParticipationExportRow> participations,
+                           Iterator<GamePlayerRow> storytellers, Iterator<GamePlayerRow> winners,
+                           Consumer<ExportedGame> consumer) {
+        GameRowCursor<ParticipationExportRow> participationCursor =
+                new GameRowCursor<>(participations, ParticipationExportRow::getGameId);
+        GameRowCursor<GamePlayerRow> storytellerCursor = new GameRowCursor<>(storytellers, GamePlayerRow::getGameId);
+        GameRowCursor<GamePlayerRow> winnerCursor = new GameRowCursor<>(winners, GamePlayerRow::getGameId);
+
+        games.forEachRemaining(game -> consumer.accept(toExportedGame(
+                game,
+                participationCursor.takeRowsOf(game.getId()),
+                storytellerCursor.takeRowsOf(game.getId()),
+                winnerCursor.takeRowsOf(game.getId())
+        )));
+    }
+
+    private ExportedGame toExportedGame(GameExportRow game, List<ParticipationExportRow> participationRows,
+                                        List<GamePlayerRow> storytellerRows, List<GamePlayerRow> winnerRows) {
+        Alignment winningAlignment = toAlignment(game.getWinningAlignment());
+        List<ExportedParticipation> participants = participationRows.stream()
+                .map(this::toExportedParticipation)
+                .toList();
+
+        List<Long> winningPlayerIds;
+        if (winningAlignment != null) {
+            // same as Game#getWinningPlayers: the winners of an alignment are not stored, but derived
+            winningPlayerIds = participants.stream()
+                    .filter(participant -> participant.endAlignment() == winningAlignment)
+                    .map(ExportedParticipation::playerId)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } else {
+            winningPlayerIds = winnerRows.stream().map(GamePlayerRow::getPlayerId).toList();
+        }
+
+        return new ExportedGame(
+                game.getId(),
+                game.getVersion(),
+                game.getName(),
+                game.getDescription(),
+                game.getScriptId(),
+                winningAlignment,
+                storytellerRows.stream().map(GamePlayerRow::getPlayerId).toList(),
+                winningPlayerIds,
+                participants
+        );
+    }
+
+    private ExportedParticipation toExportedParticipation(ParticipationExportRow row) {
+        return new ExportedParticipation(
+                row.getPlayerId(),
+                row.getInitialCharacterId(),
+                toAlignment(row.getInitialAlignment()),
+                row.getEndCharacterId(),
+                toAlignment(row.getEndAlignment()),
+                row.getAliveAtEnd()
+        );
+    }
+
+    private Alignment toAlignment(String storedAlignment) {
+        if (storedAlignment == null) {
+            return null;
+        }
+        return alignmentMapper.toBusinessObject(AlignmentEntity.valueOf(storedAlignment));
+    }
+
+    /**
+     * Reads rows sorted by game id and hands them out game by game, while the rows of the games are requested in
+     * ascending order of their ids.
+     *
+     * @param <T> type of the rows
+     */
+    private static final class GameRowCursor<T> {
+        private final Iterator<T> rows;
+        private final ToLongFunction<T> gameIdOf;
+        private T next;
+
+        GameRowCursor(Iterator<T> rows, ToLongFunction<T> gameIdOf) {
+            this.rows = rows;
+            this.gameIdOf = gameIdOf;
+        }
+
+        /**
+         * Returns the rows belonging to the given game. Rows of games with smaller ids that have not been requested are
+         * skipped.
+         *
+         * @param gameId id of the game, which must not be smaller than the one of the previous call
+         *
+         * @return the rows of the game, in the order they were read
+         */
+        List<T> takeRowsOf(long gameId) {
+            List<T> rowsOfGame = new ArrayList<>();
+            while (peek() != null && gameIdOf.applyAsLong(next) <= gameId) {
+                if (gameIdOf.applyAsLong(next) == gameId) {
+                    rowsOfGame.add(next);
+                }
+                next = null;
+            }
+            return rowsOfGame;
+        }
+
+        private T peek() {
+            if (next == null && rows.hasNext()) {
+                next = rows.next();
+            }
+            return next;
+        }
+    }
+}
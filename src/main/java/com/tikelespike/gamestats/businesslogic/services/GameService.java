@@ -1,10 +1,16 @@
 package com.tikelespike.gamestats.businesslogic.services;
 
 import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGame;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGamePage;
 import com.tikelespike.gamestats.businesslogic.entities.Game;
 import com.tikelespike.gamestats.businesslogic.entities.GameCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.GameFilter;
+import com.tikelespike.gamestats.businesslogic.entities.GameImportResult;
 import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.ResourceNotFoundException;
 import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
@@ -20,12 +26,22 @@ import com.tikelespike.gamestats.data.repositories.PlayerRepository;
 import com.tikelespike.gamestats.data.repositories.ScriptRepository;
 import jakarta.persistence.OptimisticLockException;
 import org.hibernate.StaleObjectStateException;
+import org.springframework.data.domain.Limit;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service class for managing single games of Blood on the Clocktower.
@@ -33,6 +49,8 @@ import java.util.Objects;
 @Service
 public class GameService {
 
+    private static final int STREAM_CHUNK_SIZE = 256;
+
     private final GameRepository gameRepository;
     private final ScriptRepository scriptRepository;
     private final Mapper<Game, GameEntity> gameMapper;
@@ -41,6 +59,9 @@ public class GameService {
     private final UserPlayerEntityMapper playerMapper;
     private final CharacterRepository characterRepository;
     private final PlayerRepository playerRepository;
+    private final StatService statService;
+    private final GameExportService exportService;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new game service. This is usually done by the Spring framework, which manages the service's lifecycle
@@ -57,13 +78,17 @@ public class GameService {
      *         representation
      * @param characterRepository repository managing character entities in the database
      * @param playerRepository repository managing player entities in the database
+     * @param statService service maintaining the player statistics affected by changes to games
+     * @param exportService service reading games without loading the referenced resources
+     * @param revisionService service keeping track of changes to the games
      */
     public GameService(GameRepository gameRepository, ScriptRepository scriptRepository,
                        Mapper<Game, GameEntity> gameMapper,
                        Mapper<PlayerParticipation, PlayerParticipationEntity> playerParticipationMapper,
                        Mapper<Alignment, AlignmentEntity> alignmentMapper, UserPlayerEntityMapper playerMapper,
                        CharacterRepository characterRepository,
-                       PlayerRepository playerRepository) {
+                       PlayerRepository playerRepository, StatService statService,
+                       GameExportService exportService, RevisionService revisionService) {
         this.gameRepository = gameRepository;
         this.scriptRepository = scriptRepository;
         this.gameMapper = gameMapper;
@@ -72,6 +97,9 @@ public class GameService {
         this.playerMapper = playerMapper;
         this.characterRepository = characterRepository;
         this.playerRepository = playerRepository;
+        this.statService = statService;
+        this.exportService = exportService;
+        this.revisionService = revisionService;
     }
 
     /**
@@ -93,19 +121,97 @@ public class GameService {
                     "Script with id " + request.script().getId() + " does not exist");
         }
 
-        for (PlayerParticipation participation : request.participants()) {
-            verifyParticipationResourcesExist(participation);
+        verifyReferencedResourcesExist(request.participants(), request.storytellers(), request.winningPlayers());
+
+        GameEntity savedEntity = gameRepository.save(toNewEntity(request, scriptEntity));
+        Game savedGame = gameMapper.toBusinessObject(savedEntity);
+        statService.recordGame(savedGame);
+        revisionService.recordChange(ResourceCollection.GAMES);
+        return savedGame;
+    }
+
+    /**
+     * Creates multiple new games in the system within a single transaction. The referenced resources of all games are
+     * checked with one query per resource type, and the games are saved together, so that their inserts can be sent to
+     * the database in JDBC batches. Games referencing resources that do not exist are rejected without affecting the
+     * other games.
+     *
+     * @param requests the requests containing the information needed to create the games. May not be null or
+     *         contain null elements.
+     *
+     * @return the result of each request, in the same order as the requests
+     */
+    @Transactional
+    public List<GameImportResult> createGames(List<GameCreationRequest> requests) {
+        Objects.requireNonNull(requests, "Requests may not be null");
+        requests.forEach(request -> Objects.requireNonNull(request, "Requests may not contain null"));
+
+        Set<Long> scriptIds = new HashSet<>();
+        Set<Long> characterIds = new HashSet<>();
+        Set<Long> playerIds = new HashSet<>();
+        for (GameCreationRequest request : requests) {
+            scriptIds.add(request.script().getId());
+            collectReferencedIds(request.participants(), request.storytellers(), request.winningPlayers(),
+                    characterIds, playerIds);
         }
+        Map<Long, ScriptEntity> scripts = scriptIds.isEmpty() ? Map.of()
+                : scriptRepository.findAllByIdIn(scriptIds).stream()
+                .collect(Collectors.toMap(ScriptEntity::getId, Function.identity()));
+        Set<Long> missingCharacterIds = new HashSet<>(findMissingIds(characterIds,
+                characterRepository::findExistingIds));
+        Set<Long> missingPlayerIds = new HashSet<>(findMissingIds(playerIds, playerRepository::findExistingIds));
 
-        // Verify storytellers exist
-        for (Player storyteller : request.storytellers()) {
-            if (storyteller != null && playerRepository.findById(storyteller.getId()) == null) {
-                throw new RelatedResourceNotFoundException(
-                        "Storyteller with id " + storyteller.getId() + " does not exist");
+        GameImportResult[] results = new GameImportResult[requests.size()];
+        List<Integer> acceptedIndices = new ArrayList<>();
+        List<GameEntity> entities = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            GameCreationRequest request = requests.get(i);
+            String error = findMissingReference(request, scripts.keySet(), missingCharacterIds, missingPlayerIds);
+            if (error != null) {
+                results[i] = GameImportResult.rejected(error);
+                continue;
             }
+            acceptedIndices.add(i);
+            entities.add(toNewEntity(request, scripts.get(request.script().getId())));
+        }
+        if (entities.isEmpty()) {
+            return List.of(results);
         }
 
-        GameEntity savedEntity = gameRepository.save(new GameEntity(
+        List<GameEntity> savedEntities = gameRepository.saveAll(entities);
+        List<Game> savedGames = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            Game savedGame = gameMapper.toBusinessObject(savedEntities.get(i));
+            savedGames.add(savedGame);
+            results[acceptedIndices.get(i)] = GameImportResult.created(savedGame);
+        }
+        statService.recordGames(savedGames);
+        revisionService.recordChange(ResourceCollection.GAMES);
+        return List.of(results);
+    }
+
+    private static String findMissingReference(GameCreationRequest request, Set<Long> existingScriptIds,
+                                               Set<Long> missingCharacterIds, Set<Long> missingPlayerIds) {
+        if (!existingScriptIds.contains(request.script().getId())) {
+            return "Script with id " + request.script().getId() + " does not exist";
+        }
+        Set<Long> characterIds = new TreeSet<>();
+        Set<Long> playerIds = new TreeSet<>();
+        collectReferencedIds(request.participants(), request.storytellers(), request.winningPlayers(), characterIds,
+                playerIds);
+        characterIds.retainAll(missingCharacterIds);
+        if (!characterIds.isEmpty()) {
+            return "Characters with ids " + characterIds + " do not exist";
+        }
+        playerIds.retainAll(missingPlayerIds);
+        if (!playerIds.isEmpty()) {
+            return "Players with ids " + playerIds + " do not exist";
+        }
+        return null;
+    }
+
+    private GameEntity toNewEntity(GameCreationRequest request, ScriptEntity scriptEntity) {
+        return new GameEntity(
                 null,
                 null,
                 scriptEntity,
@@ -116,27 +222,62 @@ public class GameService {
                         : request.winningPlayers().stream().map(playerMapper::toTransferObject).toList(),
                 request.name(),
                 request.storytellers().stream().map(playerMapper::toTransferObject).toList()
-        ));
-        return gameMapper.toBusinessObject(savedEntity);
+        );
     }
 
-    private void verifyParticipationResourcesExist(PlayerParticipation participation) {
-        if (participation.getInitialCharacter() != null
-                && characterRepository.findById(participation.getInitialCharacter().getId()) == null) {
+    // checks with one query per resource type (regardless of the number of participants) that all references exist
+    private void verifyReferencedResourcesExist(List<PlayerParticipation> participants, List<Player> storytellers,
+                                                List<Player> winningPlayers) {
+        Set<Long> characterIds = new HashSet<>();
+        Set<Long> playerIds = new HashSet<>();
+        collectReferencedIds(participants, storytellers, winningPlayers, characterIds, playerIds);
+
+        List<Long> missingCharacterIds = findMissingIds(characterIds, characterRepository::findExistingIds);
+        if (!missingCharacterIds.isEmpty()) {
             throw new RelatedResourceNotFoundException(
-                    "Character with id " + participation.getInitialCharacter().getId() + " does not exist");
+                    "Characters with ids " + missingCharacterIds + " do not exist");
+        }
+        List<Long> missingPlayerIds = findMissingIds(playerIds, playerRepository::findExistingIds);
+        if (!missingPlayerIds.isEmpty()) {
+            throw new RelatedResourceNotFoundException("Players with ids " + missingPlayerIds + " do not exist");
         }
+    }
 
-        if (participation.getEndCharacter() != null
-                && characterRepository.findById(participation.getEndCharacter().getId()) == null) {
-            throw new RelatedResourceNotFoundException(
-                    "Character with id " + participation.getEndCharacter().getId() + " does not exist");
+    private static void collectReferencedIds(List<PlayerParticipation> participants, List<Player> storytellers,
+                                             List<Player> winningPlayers, Set<Long> characterIds,
+                                             Set<Long> playerIds) {
+        for (PlayerParticipation participation : participants) {
+            addId(characterIds, participation.getInitialCharacter());
+            addId(characterIds, participation.getEndCharacter());
+            addId(playerIds, participation.getPlayer());
+        }
+        if (storytellers != null) {
+            storytellers.forEach(storyteller -> addId(playerIds, storyteller));
+        }
+        if (winningPlayers != null) {
+            winningPlayers.forEach(winner -> addId(playerIds, winner));
         }
+    }
 
-        if (participation.getPlayer() != null && playerRepository.findById(participation.getPlayer().getId()) == null) {
-            throw new RelatedResourceNotFoundException(
-                    "Player with id " + participation.getPlayer().getId() + " does not exist");
+    private static void addId(Set<Long> ids, Character character) {
+        if (character != null && character.getId() != null) {
+            ids.add(character.getId());
+        }
+    }
+
+    private static void addId(Set<Long> ids, Player player) {
+        if (player != null && player.getId() != null) {
+            ids.add(player.getId());
+        }
+    }
+
+    private static List<Long> findMissingIds(Set<Long> ids, Function<Collection<Long>, List<Long>> existingIdsQuery) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
+        Set<Long> missingIds = new TreeSet<>(ids);
+        existingIdsQuery.apply(ids).forEach(missingIds::remove);
+        return List.copyOf(missingIds);
     }
 
     /**
@@ -146,21 +287,69 @@ public class GameService {
      *
      * @return the game with the given ID, or null if no such game exists
      */
+    @Transactional(readOnly = true)
     public Game getGame(long id) {
         GameEntity gameEntity = gameRepository.findById(id);
         return gameMapper.toBusinessObject(gameEntity);
     }
 
     /**
-     * Retrieves all games in the system.
+     * Retrieves a page of games matching the given filter using keyset pagination. Pages are ordered by ascending game
+     * id, and the next page is retrieved by passing the cursor of the previous page. Retrieving a page takes constant
+     * time, regardless of the total number of games. The games reference their script, players and characters by id
+     * only. They are read directly from the database, without loading and mapping any entities.
+     *
+     * @param filter criteria the retrieved games have to match (may not be null)
+     * @param afterId cursor of the previous page, that is, only games with a greater id are retrieved (null to
+     *         retrieve the first page)
+     * @param limit maximum number of games on the page (null for no limit, otherwise has to be positive)
+     *
+     * @return the page of games, including the cursor to retrieve the next page
+     */
+    @Transactional(readOnly = true)
+    public ExportedGamePage getExportedGames(GameFilter filter, Long afterId, Integer limit) {
+        Objects.requireNonNull(filter, "Filter may not be null");
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+
+        List<Long> ids = findIdPage(filter, afterId, limit);
+        boolean hasNextPage = limit != null && ids.size() > limit;
+        List<Long> pageIds = hasNextPage ? ids.subList(0, limit) : ids;
+        return new ExportedGamePage(exportService.getGames(pageIds), hasNextPage ? pageIds.getLast() : null);
+    }
+
+    /**
+     * Passes all games matching the given filter to the given action, in ascending order of their ids. The games are
+     * read in chunks of constant size, so the memory used does not depend on the number of games (as long as the action
+     * does not keep them). The games reference their script, players and characters by id only, see
+     * {@link #getExportedGames(GameFilter, Long, Integer)}.
      *
-     * @return a list of all games
+     * @param filter criteria the games have to match (may not be null)
+     * @param afterId only games with a greater id are passed on (null to start at the first game)
+     * @param action action to perform for every game (may not be null)
      */
-    public List<Game> getAllGames() {
-        List<GameEntity> gameEntities = gameRepository.findAll();
-        return gameEntities.stream()
-                .map(gameMapper::toBusinessObject)
-                .toList();
+    @Transactional(readOnly = true)
+    public void forEachExportedGame(GameFilter filter, Long afterId, Consumer<ExportedGame> action) {
+        Objects.requireNonNull(action, "Action may not be null");
+
+        Long cursor = afterId;
+        do {
+            ExportedGamePage page = getExportedGames(filter, cursor, STREAM_CHUNK_SIZE);
+            page.games().forEach(action);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+    }
+
+    // one more id than requested is fetched to find out whether there is a next page
+    private List<Long> findIdPage(GameFilter filter, Long afterId, Integer limit) {
+        return gameRepository.findIdPage(
+                afterId,
+                filter.scriptId(),
+                filter.playerId(),
+                alignmentMapper.toTransferObject(filter.winningAlignment()),
+                limit == null ? Limit.unlimited() : Limit.of(limit + 1)
+        );
     }
 
     /**
@@ -176,9 +365,12 @@ public class GameService {
     public Game updateGame(Game game) throws StaleDataException {
         Objects.requireNonNull(game, "Game may not be null");
 
-        if (gameRepository.findById(game.getId()) == null) {
+        GameEntity existingEntity = gameRepository.findById(game.getId());
+        if (existingEntity == null) {
             throw new ResourceNotFoundException("Game with id " + game.getId() + " does not exist");
         }
+        // must be mapped before saving, as saving merges the new state into the managed entity
+        Game previousGame = gameMapper.toBusinessObject(existingEntity);
 
         ScriptEntity scriptEntity = scriptRepository.findById(game.getScript().getId());
         if (scriptEntity == null) {
@@ -186,18 +378,20 @@ public class GameService {
                     "Script with id " + game.getScript().getId() + " does not exist");
         }
 
-        for (PlayerParticipation participation : game.getParticipants()) {
-            verifyParticipationResourcesExist(participation);
-        }
+        verifyReferencedResourcesExist(game.getParticipantsView(), game.getStorytellersView(),
+                game.getWinningPlayers());
 
         GameEntity entityToSave = gameMapper.toTransferObject(game);
-        GameEntity savedEntity;
+        Game savedGame;
         try {
-            savedEntity = gameRepository.save(entityToSave);
+            savedGame = gameMapper.toBusinessObject(gameRepository.save(entityToSave));
+            statService.retractGame(previousGame);
+            statService.recordGame(savedGame);
+            revisionService.recordChange(ResourceCollection.GAMES);
         } catch (StaleObjectStateException | OptimisticLockException | ObjectOptimisticLockingFailureException e) {
             throw new StaleDataException(e);
         }
-        return gameMapper.toBusinessObject(savedEntity);
+        return savedGame;
     }
 
     /**
@@ -205,7 +399,15 @@ public class GameService {
      *
      * @param id the ID of the game to delete
      */
+    @Transactional
     public void deleteGame(long id) {
+        GameEntity gameEntity = gameRepository.findById(id);
+        if (gameEntity == null) {
+            return;
+        }
+
+        statService.retractGame(gameMapper.toBusinessObject(gameEntity));
         gameRepository.deleteById(id);
+        revisionService.recordChange(ResourceCollection.GAMES);
     }
 }
@@ -1,14 +1,20 @@
 package com.tikelespike.gamestats.businesslogic.services;
 
 import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.User;
 import com.tikelespike.gamestats.businesslogic.mapper.UserPlayerEntityMapper;
+import com.tikelespike.gamestats.data.entities.PlayerStatsEntity;
 import com.tikelespike.gamestats.data.entities.UserEntity;
 import com.tikelespike.gamestats.data.repositories.PlayerRepository;
+import com.tikelespike.gamestats.data.repositories.PlayerStatsRepository;
 import com.tikelespike.gamestats.data.repositories.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Service for managing players. A player is a participant in games and can be associated with a user. There can also be
@@ -20,6 +26,8 @@ public class PlayerService {
     private final PlayerRepository playerRepository;
     private final UserPlayerEntityMapper mapper;
     private final UserRepository userRepository;
+    private final PlayerStatsRepository statsRepository;
+    private final RevisionService revisionService;
 
     /**
      * Creates a new player service. This is usually done by the Spring framework, which manages the service's lifecycle
@@ -28,12 +36,17 @@ public class PlayerService {
      * @param playerRepository repository managing player entities in the database
      * @param mapper mapper for converting between player business objects and player entities
      * @param userRepository repository managing user accounts
+     * @param statsRepository repository managing the stored statistics, which are created together with each player
+     * @param revisionService service keeping track of changes to the players and the resources referencing them
      */
     public PlayerService(PlayerRepository playerRepository, UserPlayerEntityMapper mapper,
-                         UserRepository userRepository) {
+                         UserRepository userRepository, PlayerStatsRepository statsRepository,
+                         RevisionService revisionService) {
         this.playerRepository = playerRepository;
         this.mapper = mapper;
         this.userRepository = userRepository;
+        this.statsRepository = statsRepository;
+        this.revisionService = revisionService;
     }
 
     /**
@@ -57,6 +70,21 @@ public class PlayerService {
         return mapper.toBusinessObject(playerRepository.findById(id));
     }
 
+    /**
+     * Retrieves all players with the given ids using a single query. Ids of players that do not exist are ignored.
+     *
+     * @param ids the unique identifiers of the players to retrieve (may not be null)
+     *
+     * @return the players with the given ids that exist, in no particular order
+     */
+    public List<Player> getExistingPlayers(Collection<Long> ids) {
+        Objects.requireNonNull(ids, "Ids may not be null");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return playerRepository.findAllByIdIn(ids).stream().map(mapper::toBusinessObject).toList();
+    }
+
     /**
      * Checks if a player with the given id exists in the system.
      *
@@ -76,12 +104,15 @@ public class PlayerService {
      *
      * @return the newly created player
      */
+    @Transactional
     public Player createPlayer(String name) {
         if (name.isEmpty()) {
             throw new IllegalArgumentException("Name must not be empty");
         }
         Player player = new Player(name);
-        return mapper.toBusinessObject(playerRepository.save(mapper.toTransferObject(player)));
+        Player savedPlayer = saveNewPlayer(player);
+        revisionService.recordChange(ResourceCollection.PLAYERS);
+        return savedPlayer;
     }
 
     /**
@@ -93,6 +124,7 @@ public class PlayerService {
      *
      * @return the newly created player
      */
+    @Transactional
     public Player createPlayer(User owner) {
         return createPlayer(owner.getId());
     }
@@ -104,6 +136,7 @@ public class PlayerService {
      * @param ownerId the id of user that manages the player. Must exist in the system and must not already have
      *         a different player associated with it.
      */
+    @Transactional
     public Player createPlayer(long ownerId) {
         UserEntity userEntity = userRepository.findById(ownerId);
         if (userEntity == null) {
@@ -115,7 +148,18 @@ public class PlayerService {
         }
         Player player = new Player(owner);
         owner.setPlayer(player);
-        return mapper.toBusinessObject(playerRepository.save(mapper.toTransferObject(player)));
+        Player savedPlayer = saveNewPlayer(player);
+        // the owner is now associated with the player
+        revisionService.recordChange(ResourceCollection.PLAYERS, ResourceCollection.USERS);
+        return savedPlayer;
+    }
+
+    // the (empty) statistics are stored in the same transaction as the player, so they exist as soon as the player is
+    // visible to other transactions and games of the player never have to create them
+    private Player saveNewPlayer(Player player) {
+        Player savedPlayer = mapper.toBusinessObject(playerRepository.save(mapper.toTransferObject(player)));
+        statsRepository.save(new PlayerStatsEntity(savedPlayer.getId()));
+        return savedPlayer;
     }
 
     /**
@@ -125,6 +169,7 @@ public class PlayerService {
      *
      * @return the updated player
      */
+    @Transactional
     public Player updatePlayer(Player player) {
         if (player.getId() == null) {
             throw new IllegalArgumentException("Player must have an id");
@@ -135,7 +180,10 @@ public class PlayerService {
         if ((player.getName() == null || player.getName().isBlank()) && player.getOwner() == null) {
             throw new IllegalArgumentException("Player must have a name or an owner");
         }
-        return mapper.toBusinessObject(playerRepository.save(mapper.toTransferObject(player)));
+        Player savedPlayer = mapper.toBusinessObject(playerRepository.save(mapper.toTransferObject(player)));
+        // the player may have been associated with a different owner
+        revisionService.recordChange(ResourceCollection.PLAYERS, ResourceCollection.USERS);
+        return savedPlayer;
     }
 
     /**
@@ -143,6 +191,7 @@ public class PlayerService {
      *
      * @param id the unique identifier of the player to delete
      */
+    @Transactional
     public void deletePlayer(Long id) {
         Player player = getPlayerById(id);
         if (player == null) {
@@ -156,5 +205,7 @@ public class PlayerService {
         }
 
         playerRepository.deleteById(id);
+        // games the player took part in lose their references to the player
+        revisionService.recordChange(ResourceCollection.PLAYERS, ResourceCollection.USERS, ResourceCollection.GAMES);
     }
 }
@@ -0,0 +1,60 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
+import com.tikelespike.gamestats.data.repositories.CollectionRevisionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Service keeping track of the revisions of the resource collections. Every service changing resources records the
+ * change within the same transaction, so the revision of a collection changes if and only if a committed transaction
+ * changed it. This allows checking whether a collection changed without reading the collection itself.
+ */
+@Service
+public class RevisionService {
+
+    private final CollectionRevisionRepository revisionRepository;
+
+    /**
+     * Creates a new revision service. This is usually done by the Spring framework, which manages the service's
+     * lifecycle and injects the required dependencies.
+     *
+     * @param revisionRepository repository managing the revision counters in the database
+     */
+    public RevisionService(CollectionRevisionRepository revisionRepository) {
+        this.revisionRepository = revisionRepository;
+    }
+
+    /**
+     * Returns the current revision of a collection. The revision has to be retrieved before the collection itself, so
+     * the retrieved resources are at least as recent as the revision.
+     *
+     * @param collection the collection (may not be null)
+     *
+     * @return the number of committed transactions that changed the collection
+     */
+    @Transactional(readOnly = true)
+    public long getRevision(ResourceCollection collection) {
+        Objects.requireNonNull(collection, "Collection may not be null");
+        Long revision = revisionRepository.findRevision(collection.name());
+        if (revision == null) {
+            throw new IllegalStateException("No revision counter exists for collection " + collection);
+        }
+        return revision;
+    }
+
+    /**
+     * Records that the current transaction changes resources of the given collections. Has to be called within the
+     * transaction making the change.
+     *
+     * @param collections the changed collections
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(ResourceCollection... collections) {
+        revisionRepository.incrementRevisions(Arrays.stream(collections).map(ResourceCollection::name).toList());
+    }
+}
@@ -0,0 +1,162 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.Script;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of all scripts known to the system, indexed by their id. Together with each script, the ids of
+ * its characters are kept in a bit set, so checking which characters a script contains does not require iterating over
+ * (or loading) its characters. Changes create a new snapshot, so a snapshot can be read by any number of threads
+ * without locking. As scripts are mutable, the snapshot only hands out copies of the scripts it contains.
+ */
+final class ScriptCatalogue {
+
+    private final Map<Long, Entry> entriesById;
+
+    private ScriptCatalogue(Map<Long, Entry> entriesById) {
+        this.entriesById = Collections.unmodifiableMap(entriesById);
+    }
+
+    /**
+     * Creates a snapshot containing the given scripts.
+     *
+     * @param scripts all scripts known to the system (may not be null)
+     *
+     * @return the snapshot
+     */
+    static ScriptCatalogue of(Collection<Script> scripts) {
+        Map<Long, Entry> entriesById = new TreeMap<>();
+        for (Script script : scripts) {
+            entriesById.put(script.getId(), Entry.of(script));
+        }
+        return new ScriptCatalogue(entriesById);
+    }
+
+    /**
+     * Returns the script with the given id.
+     *
+     * @param id the id of the script
+     *
+     * @return a copy of the script with the given id, or null if it is not part of this snapshot
+     */
+    Script get(long id) {
+        Entry entry = entriesById.get(id);
+        return entry == null ? null : copy(entry.script());
+    }
+
+    /**
+     * Returns all scripts in this snapshot.
+     *
+     * @return copies of all scripts, ordered by id
+     */
+    List<Script> getAll() {
+        return entriesById.values().stream().map(entry -> copy(entry.script())).toList();
+    }
+
+    /**
+     * Returns all scripts containing all of the given characters.
+     *
+     * @param characterIds ids of the characters the scripts have to contain (may not be null)
+     *
+     * @return copies of the scripts containing all of the given characters, ordered by id
+     */
+    List<Script> getAllContaining(Collection<Long> characterIds) {
+        if (!characterIds.stream().allMatch(ScriptCatalogue::isValidCharacterId)) {
+            return List.of();
+        }
+        BitSet requiredCharacters = toBitSet(characterIds);
+        return entriesById.values().stream()
+                .filter(entry -> entry.containsAll(requiredCharacters))
+                .map(entry -> copy(entry.script()))
+                .toList();
+    }
+
+    /**
+     * Checks whether the script with the given id contains the character with the given id.
+     *
+     * @param scriptId the id of the script
+     * @param characterId the id of the character
+     *
+     * @return true if the script is part of this snapshot and contains the character, false otherwise
+     */
+    boolean contains(long scriptId, long characterId) {
+        Entry entry = entriesById.get(scriptId);
+        return entry != null && isValidCharacterId(characterId)
+                && entry.characterIds().get(Math.toIntExact(characterId));
+    }
+
+    /**
+     * Creates a new snapshot containing the given script in addition to (or instead of an older version of) the
+     * scripts of this snapshot. A script that is already contained in the same or a newer version is not replaced.
+     *
+     * @param script the created or updated script (may not be null)
+     *
+     * @return the new snapshot
+     */
+    ScriptCatalogue withScript(Script script) {
+        Entry cached = entriesById.get(script.getId());
+        if (cached != null && cached.script().getVersion() >= script.getVersion()) {
+            return this;
+        }
+        Map<Long, Entry> newEntries = new TreeMap<>(entriesById);
+        newEntries.put(script.getId(), Entry.of(script));
+        return new ScriptCatalogue(newEntries);
+    }
+
+    /**
+     * Creates a new snapshot not containing the script with the given id.
+     *
+     * @param id the id of the deleted script
+     *
+     * @return the new snapshot
+     */
+    ScriptCatalogue withoutScript(long id) {
+        Map<Long, Entry> newEntries = new TreeMap<>(entriesById);
+        newEntries.remove(id);
+        return new ScriptCatalogue(newEntries);
+    }
+
+    // character ids are used as bit indices, ids that cannot be one do not exist
+    private static boolean isValidCharacterId(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    private static BitSet toBitSet(Collection<Long> characterIds) {
+        BitSet bits = new BitSet();
+        characterIds.forEach(id -> bits.set(Math.toIntExact(id)));
+        return bits;
+    }
+
+    private static Script copy(Script script) {
+        return new Script(
+                script.getId(),
+                script.getVersion(),
+                script.getWikiPageLink(),
+                script.getName(),
+                script.getDescription(),
+                script.getCharactersView().stream().map(CharacterCatalogue::copy).collect(Collectors.toSet())
+        );
+    }
+
+    private record Entry(Script script, BitSet characterIds) {
+
+        static Entry of(Script script) {
+            Script copy = copy(script);
+            return new Entry(copy, toBitSet(copy.getCharactersView().stream().map(Character::getId).toList()));
+        }
+
+        boolean containsAll(BitSet requiredCharacters) {
+            BitSet missingCharacters = (BitSet) requiredCharacters.clone();
+            missingCharacters.andNot(characterIds);
+            return missingCharacters.isEmpty();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.tikelespike.gamestats.businesslogic.services;
 
 import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.Script;
 import com.tikelespike.gamestats.businesslogic.entities.ScriptCreationRequest;
 import com.tikelespike.gamestats.businesslogic.exceptions.RelatedResourceNotFoundException;
@@ -17,10 +18,14 @@ import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Service class for managing collections of characters.
+ * Service class for managing collections of characters. All scripts are kept in an in-memory snapshot that is loaded
+ * on first access and updated whenever a script is changed through this service, so reading scripts and checking which
+ * characters they contain does not require a database query.
  */
 @Service
 public class ScriptService {
@@ -29,6 +34,8 @@ public class ScriptService {
     private final CharacterRepository characterRepository;
     private final Mapper<Script, ScriptEntity> scriptMapper;
     private final Mapper<Character, CharacterEntity> characterMapper;
+    private final RevisionService revisionService;
+    private final SnapshotReference<ScriptCatalogue> catalogue;
 
     /**
      * Creates a new script service. This is usually done by the Spring framework, which manages the service's lifecycle
@@ -38,14 +45,17 @@ public class ScriptService {
      * @param characterRepository repository managing character entities in the database
      * @param scriptMapper mapper for converting between script business objects and script entities
      * @param characterMapper mapper for converting between character business objects and character entities
+     * @param revisionService service keeping track of changes to the scripts and the games played with them
      */
     public ScriptService(ScriptRepository scriptRepository, CharacterRepository characterRepository,
                          Mapper<Script, ScriptEntity> scriptMapper,
-                         Mapper<Character, CharacterEntity> characterMapper) {
+                         Mapper<Character, CharacterEntity> characterMapper, RevisionService revisionService) {
         this.scriptRepository = scriptRepository;
         this.characterRepository = characterRepository;
         this.scriptMapper = scriptMapper;
         this.characterMapper = characterMapper;
+        this.revisionService = revisionService;
+        this.catalogue = new SnapshotReference<>(this::loadCatalogue);
     }
 
     /**
@@ -77,7 +87,10 @@ public class ScriptService {
 
         ScriptEntity savedScriptEntity = scriptRepository.save(scriptEntity);
 
-        return scriptMapper.toBusinessObject(savedScriptEntity);
+        Script savedScript = scriptMapper.toBusinessObject(savedScriptEntity);
+        catalogue.update(snapshot -> snapshot.withScript(savedScript));
+        revisionService.recordChange(ResourceCollection.SCRIPTS);
+        return savedScript;
     }
 
     /**
@@ -88,8 +101,7 @@ public class ScriptService {
      * @return the script with the given ID, or null if no such script exists
      */
     public Script getScript(long id) {
-        ScriptEntity scriptEntity = scriptRepository.findById(id);
-        return scriptMapper.toBusinessObject(scriptEntity);
+        return catalogue.get().get(id);
     }
 
     /**
@@ -98,10 +110,31 @@ public class ScriptService {
      * @return a list of all scripts
      */
     public List<Script> getAllScripts() {
-        List<ScriptEntity> scriptEntities = scriptRepository.findAll();
-        return scriptEntities.stream()
-                .map(scriptMapper::toBusinessObject)
-                .toList();
+        return catalogue.get().getAll();
+    }
+
+    /**
+     * Retrieves all scripts containing all of the given characters.
+     *
+     * @param characterIds the ids of the characters the scripts have to contain. May not be null.
+     *
+     * @return a list of all scripts containing the given characters
+     */
+    public List<Script> getScriptsContainingCharacters(Collection<Long> characterIds) {
+        Objects.requireNonNull(characterIds, "Character ids may not be null");
+        return catalogue.get().getAllContaining(characterIds);
+    }
+
+    /**
+     * Checks whether a character is part of a script.
+     *
+     * @param scriptId the ID of the script
+     * @param characterId the ID of the character
+     *
+     * @return true if the script exists and contains the character, false otherwise
+     */
+    public boolean scriptContainsCharacter(long scriptId, long characterId) {
+        return catalogue.get().contains(scriptId, characterId);
     }
 
     /**
@@ -123,8 +156,8 @@ public class ScriptService {
 
         // Check if characters exist in the database
         List<CharacterEntity> existingCharacters = characterRepository.findAllByIdWithLock(
-                script.getCharacters().stream().map(Character::getId).toList());
-        if (existingCharacters.size() != script.getCharacters().size()) {
+                script.getCharactersView().stream().map(Character::getId).toList());
+        if (existingCharacters.size() != script.getCharactersView().size()) {
             throw new RelatedResourceNotFoundException("At least one of the characters of the script does not exist");
         }
 
@@ -132,10 +165,15 @@ public class ScriptService {
         ScriptEntity savedEntity;
         try {
             savedEntity = scriptRepository.save(entityToSave);
+            // the version is only incremented when flushing, and only a newer version replaces the cached script
+            scriptRepository.flush();
         } catch (StaleObjectStateException | OptimisticLockException | ObjectOptimisticLockingFailureException e) {
             throw new StaleDataException(e);
         }
-        return scriptMapper.toBusinessObject(savedEntity);
+        Script savedScript = scriptMapper.toBusinessObject(savedEntity);
+        catalogue.update(snapshot -> snapshot.withScript(savedScript));
+        revisionService.recordChange(ResourceCollection.SCRIPTS);
+        return savedScript;
     }
 
     /**
@@ -143,7 +181,23 @@ public class ScriptService {
      *
      * @param id the ID of the script to delete
      */
+    @Transactional
     public void deleteScript(long id) {
         scriptRepository.deleteById(id);
+        catalogue.update(snapshot -> snapshot.withoutScript(id));
+        // games played with the script lose their reference to it
+        revisionService.recordChange(ResourceCollection.SCRIPTS, ResourceCollection.GAMES);
+    }
+
+    /**
+     * Discards all cached scripts, so they are loaded from the database again on the next access. This has to be
+     * called whenever characters are changed or deleted, as scripts contain them.
+     */
+    public void evictCachedScripts() {
+        catalogue.invalidate();
+    }
+
+    private ScriptCatalogue loadCatalogue() {
+        return ScriptCatalogue.of(scriptRepository.findAll().stream().map(scriptMapper::toBusinessObject).toList());
     }
 }
@@ -0,0 +1,96 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicStampedReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds an immutable, lazily loaded snapshot of data that is read much more often than it is changed. Reads never lock;
+ * changes atomically replace the whole snapshot. Changes made inside a transaction only become visible once the
+ * transaction has been committed.
+ *
+ * @param <T> type of the (immutable) snapshot
+ */
+final class SnapshotReference<T> {
+
+    // null while not loaded; the stamp is increased by every change, so a load never overwrites a newer snapshot
+    private final AtomicStampedReference<T> snapshot = new AtomicStampedReference<>(null, 0);
+    private final Supplier<T> loader;
+
+    /**
+     * Creates a new, not yet loaded snapshot reference.
+     *
+     * @param loader loads the current snapshot from the database (may not be null)
+     */
+    SnapshotReference(Supplier<T> loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the current snapshot, loading it first if necessary.
+     *
+     * @return the current snapshot
+     */
+    T get() {
+        int[] stamp = new int[1];
+        T current = snapshot.get(stamp);
+        if (current != null) {
+            return current;
+        }
+
+        T loaded = loader.get();
+        // if a change was applied while loading, the loaded snapshot may be outdated and is only used for this call
+        snapshot.compareAndSet(null, loaded, stamp[0], stamp[0] + 1);
+        return loaded;
+    }
+
+    /**
+     * Replaces the current snapshot by a changed one. No effect if the snapshot has not been loaded yet. If called
+     * within a transaction, the change is applied after the transaction has been committed (and never if it is rolled
+     * back).
+     *
+     * @param change creates the changed snapshot from the current one, without modifying the current one (may
+     *         be applied multiple times)
+     */
+    void update(UnaryOperator<T> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    /**
+     * Discards the current snapshot, so it is loaded again on the next access. If called within a transaction, the
+     * snapshot is discarded after the transaction has been completed.
+     */
+    void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    apply(current -> null);
+                }
+            });
+        } else {
+            apply(current -> null);
+        }
+    }
+
+    private void apply(UnaryOperator<T> change) {
+        int[] stamp = new int[1];
+        T current;
+        do {
+            current = snapshot.get(stamp);
+        } while (!snapshot.compareAndSet(current, current == null ? null : change.apply(current), stamp[0],
+                stamp[0] + 1));
+    }
+}
@@ -0,0 +1,29 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+/**
+ * Strategy for recomputing player statistics from the complete game history.
+ */
+public enum StatComputationMode {
+    /**
+     * Aggregate the statistics in the database with GROUP BY queries, so that only a few rows per player are loaded
+     * into memory instead of all games.
+     */
+    DATABASE,
+
+    /**
+     * Load all games into memory and aggregate them on the calling thread.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Load all games into memory and always split them into chunks that are aggregated in parallel on multiple cores.
+     */
+    PARALLEL,
+
+    /**
+     * Load all games into memory and aggregate them in parallel only if the number of games reaches a configured
+     * threshold, sequentially otherwise. For small game histories, the overhead of parallelization outweighs its
+     * benefits.
+     */
+    THRESHOLD
+}
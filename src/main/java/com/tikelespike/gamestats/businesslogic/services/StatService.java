@@ -1,48 +1,407 @@
 package com.tikelespike.gamestats.businesslogic.services;
 
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
 import com.tikelespike.gamestats.businesslogic.entities.Game;
 import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerStats;
+import com.tikelespike.gamestats.businesslogic.entities.PlayerStatsAggregator;
+import com.tikelespike.gamestats.common.Mapper;
+import com.tikelespike.gamestats.data.entities.CharacterEntity;
+import com.tikelespike.gamestats.data.entities.CharacterTypeEntity;
+import com.tikelespike.gamestats.data.entities.GameEntity;
+import com.tikelespike.gamestats.data.entities.PlayerStatsEntity;
+import com.tikelespike.gamestats.data.projections.PlayerCharacterCount;
+import com.tikelespike.gamestats.data.projections.PlayerCharacterTypeCount;
+import com.tikelespike.gamestats.data.projections.PlayerParticipationCounts;
+import com.tikelespike.gamestats.data.projections.PlayerStorytellerCount;
+import com.tikelespike.gamestats.data.repositories.CharacterRepository;
+import com.tikelespike.gamestats.data.repositories.GameRepository;
+import com.tikelespike.gamestats.data.repositories.PlayerStatsAggregationRepository;
+import com.tikelespike.gamestats.data.repositories.PlayerStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Service class providing statistical data.
+ * Service class providing statistical data. Player statistics are not recomputed from the whole game history on every
+ * request, but stored as aggregates that are updated incrementally whenever a game is created, updated or deleted.
+ * <p>
+ * The stored statistics of a player are only changed while holding a lock on them, which is acquired in ascending
+ * order of the player ids. Concurrent changes to games sharing a player are therefore applied one after the other
+ * instead of failing with an optimistic locking conflict.
  */
 @Service
 public class StatService {
 
     private final PlayerService playerService;
-    private final GameService gameService;
+    private final GameRepository gameRepository;
+    private final PlayerStatsRepository statsRepository;
+    private final PlayerStatsAggregationRepository aggregationRepository;
+    private final CharacterRepository characterRepository;
+    private final Mapper<Game, GameEntity> gameMapper;
+    private final Mapper<Character, CharacterEntity> characterMapper;
+    private final Mapper<CharacterType, CharacterTypeEntity> typeMapper;
+    private final TransactionTemplate separateTransaction;
+
+    @Value("${gamestats.stats.computation.mode}")
+    private StatComputationMode computationMode;
+
+    @Value("${gamestats.stats.computation.parallel-threshold}")
+    private int parallelThreshold;
 
     /**
      * Creates a new statistics service. This is usually done by the Spring framework, which manages the service's
      * lifecycle and injects the required dependencies.
      *
      * @param playerService service for managing players
-     * @param gameService service for managing games
+     * @param gameRepository repository managing game entities in the database
+     * @param statsRepository repository managing the stored player statistics
+     * @param aggregationRepository repository computing player statistics in the database
+     * @param characterRepository repository managing character entities in the database
+     * @param gameMapper mapper for converting between game business objects and game entities
+     * @param characterMapper mapper for converting between character business objects and character entities
+     * @param typeMapper mapper for converting between character type business objects and character type
+     *         entities
+     * @param transactionManager transaction manager used to rebuild the statistics outside the transaction of the
+     *         current request
      */
-    public StatService(PlayerService playerService, GameService gameService) {
+    public StatService(PlayerService playerService, GameRepository gameRepository,
+                       PlayerStatsRepository statsRepository,
+                       PlayerStatsAggregationRepository aggregationRepository, CharacterRepository characterRepository,
+                       Mapper<Game, GameEntity> gameMapper, Mapper<Character, CharacterEntity> characterMapper,
+                       Mapper<CharacterType, CharacterTypeEntity> typeMapper,
+                       PlatformTransactionManager transactionManager) {
         this.playerService = playerService;
-        this.gameService = gameService;
+        this.gameRepository = gameRepository;
+        this.statsRepository = statsRepository;
+        this.aggregationRepository = aggregationRepository;
+        this.characterRepository = characterRepository;
+        this.gameMapper = gameMapper;
+        this.characterMapper = characterMapper;
+        this.typeMapper = typeMapper;
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
-     * Retrieves the statistics of all players in the application.
+     * Retrieves the statistics of all players in the application. This only reads the stored aggregates and does not
+     * scan the game history.
      *
      * @return a list of player statistics
      */
+    @Transactional(readOnly = true)
     public List<PlayerStats> getAllPlayerStatistics() {
         List<Player> players = playerService.getAllPlayers();
-        List<Game> games = gameService.getAllGames();
+        Map<Long, PlayerStatsEntity> storedStats = byPlayerId(statsRepository.findAll());
+        Map<Long, Character> characters = characterRepository.findAll().stream()
+                .map(characterMapper::toBusinessObject)
+                .collect(Collectors.toMap(Character::getId, Function.identity()));
+
+        return players.stream()
+                .map(player -> toPlayerStats(player, storedStats.get(player.getId()), characters))
+                .toList();
+    }
+
+    /**
+     * Retrieves the statistics of a single player. This only reads the stored aggregates of that player (and the
+     * characters they played), independent of the number of players and games in the application.
+     *
+     * @param playerId the unique identifier of the player
+     *
+     * @return the statistics of the player, or null if no such player exists
+     */
+    @Transactional(readOnly = true)
+    public PlayerStats getPlayerStatistics(long playerId) {
+        Player player = playerService.getPlayerById(playerId);
+        if (player == null) {
+            return null;
+        }
+
+        PlayerStatsEntity storedStats = statsRepository.findByPlayerId(playerId);
+        if (storedStats == null || storedStats.getCharacterPlayingCounts().isEmpty()) {
+            return toPlayerStats(player, storedStats, Map.of());
+        }
+        Map<Long, Character> characters = characterRepository
+                .findAllByIdIn(storedStats.getCharacterPlayingCounts().keySet()).stream()
+                .map(characterMapper::toBusinessObject)
+                .collect(Collectors.toMap(Character::getId, Function.identity()));
+        return toPlayerStats(player, storedStats, characters);
+    }
+
+    /**
+     * Adds the contribution of a newly created game to the stored statistics of all players involved in it. Must be
+     * called exactly once for every created game.
+     *
+     * @param game the game that has been created (may not be null)
+     */
+    @Transactional
+    public void recordGame(Game game) {
+        applyGames(List.of(Objects.requireNonNull(game, "Game may not be null")), 1);
+    }
+
+    /**
+     * Adds the contributions of multiple newly created games to the stored statistics of all players involved in them.
+     * The statistics of each involved player are read and written only once, regardless of the number of games. Must
+     * be called exactly once for every created game (instead of {@link #recordGame(Game)}).
+     *
+     * @param games the games that have been created (may not be null or contain null elements)
+     */
+    @Transactional
+    public void recordGames(Collection<Game> games) {
+        Objects.requireNonNull(games, "Games may not be null");
+        games.forEach(game -> Objects.requireNonNull(game, "Games may not contain null"));
+        applyGames(games, 1);
+    }
+
+    /**
+     * Removes the contribution of a game from the stored statistics of all players involved in it, for example because
+     * the game has been deleted. To apply an update of a game, retract the old state and record the new state.
+     *
+     * @param game the game as it was previously recorded (may not be null)
+     */
+    @Transactional
+    public void retractGame(Game game) {
+        applyGames(List.of(Objects.requireNonNull(game, "Game may not be null")), -1);
+    }
+
+    /**
+     * Recomputes the stored statistics of all players from the complete game history. This is only necessary if the
+     * stored aggregates may have diverged from the games, for example because characters referenced by games have been
+     * deleted or changed their type. Depending on the configured {@link StatComputationMode}, the statistics are
+     * aggregated in the database or in memory.
+     */
+    @Transactional
+    public void rebuildPlayerStatistics() {
+        List<Player> players = playerService.getAllPlayers();
+        createMissingStatistics(players.stream().map(Player::getId).toList());
+        // locked before the games are read, so games changed concurrently are either counted or applied afterward
+        Map<Long, PlayerStatsEntity> storedStats = byPlayerId(statsRepository.findAllForUpdate());
+        Map<Long, PlayerStatsEntity> statsToSave = new HashMap<>();
+        for (Player player : players) {
+            PlayerStatsEntity entity = storedStats.get(player.getId());
+            if (entity == null) {
+                // the player has been deleted concurrently
+                continue;
+            }
+            resetCounts(entity);
+            statsToSave.put(player.getId(), entity);
+        }
+
+        if (computationMode == StatComputationMode.DATABASE) {
+            addDatabaseAggregates(statsToSave);
+        } else {
+            addInMemoryAggregates(statsToSave);
+        }
+        statsRepository.saveAll(statsToSave.values());
+    }
+
+    /**
+     * Recomputes the stored statistics of all players from the complete game history once the current transaction has
+     * been committed, in a transaction of its own. Use this instead of {@link #rebuildPlayerStatistics()} if the
+     * current transaction changes the games in a way that invalidates the stored statistics, so that the rebuild
+     * neither prolongs nor holds the locks of that transaction. If there is no current transaction, the statistics are
+     * rebuilt immediately.
+     */
+    public void rebuildPlayerStatisticsAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            separateTransaction.executeWithoutResult(status -> rebuildPlayerStatistics());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                separateTransaction.executeWithoutResult(status -> rebuildPlayerStatistics());
+            }
+        });
+    }
+
+    /**
+     * Computes the stored statistics from the complete game history if no statistics have been stored yet (for
+     * example on the first start after the statistics store has been introduced). Otherwise, stores empty statistics
+     * for the players that have none yet, as statistics used to be created only with the first game of a player.
+     */
+    @Transactional
+    public void rebuildPlayerStatisticsIfMissing() {
+        if (statsRepository.count() == 0) {
+            rebuildPlayerStatistics();
+        } else {
+            createMissingStatistics(playerService.getAllPlayers().stream().map(Player::getId).toList());
+        }
+    }
+
+    private void addDatabaseAggregates(Map<Long, PlayerStatsEntity> statsByPlayerId) {
+        for (PlayerParticipationCounts counts : aggregationRepository.countParticipations()) {
+            PlayerStatsEntity entity = statsByPlayerId.get(counts.getPlayerId());
+            if (entity != null) {
+                entity.setTotalGamesPlayed(entity.getTotalGamesPlayed() + (int) counts.getGamesPlayed());
+                entity.setTotalWins((int) counts.getWins());
+                entity.setTimesDeadAtEnd((int) counts.getDeadAtEnd());
+                entity.setTimesGood((int) counts.getTimesGood());
+                entity.setTimesEvil((int) counts.getTimesEvil());
+            }
+        }
+        for (PlayerStorytellerCount count : aggregationRepository.countStorytelling()) {
+            PlayerStatsEntity entity = statsByPlayerId.get(count.getPlayerId());
+            if (entity != null) {
+                entity.setTotalGamesPlayed(entity.getTotalGamesPlayed() + (int) count.getTimesStoryteller());
+                entity.setTimesStoryteller((int) count.getTimesStoryteller());
+            }
+        }
+        for (PlayerCharacterCount count : aggregationRepository.countCharacters()) {
+            PlayerStatsEntity entity = statsByPlayerId.get(count.getPlayerId());
+            if (entity != null) {
+                entity.getCharacterPlayingCounts().put(count.getCharacterId(), (int) count.getPlayCount());
+            }
+        }
+        for (PlayerCharacterTypeCount count : aggregationRepository.countCharacterTypes()) {
+            PlayerStatsEntity entity = statsByPlayerId.get(count.getPlayerId());
+            if (entity != null) {
+                entity.getCharacterTypeCounts().put(CharacterTypeEntity.valueOf(count.getCharacterType()),
+                        (int) count.getPlayCount());
+            }
+        }
+    }
+
+    private void addInMemoryAggregates(Map<Long, PlayerStatsEntity> statsByPlayerId) {
+        List<Game> games = gameRepository.findAllForStatistics().stream().map(gameMapper::toBusinessObject).toList();
+        for (PlayerStats statistics : aggregate(games).getAllStatistics()) {
+            PlayerStatsEntity entity = statsByPlayerId.get(statistics.player().getId());
+            if (entity != null) {
+                addToEntity(entity, statistics, 1);
+            }
+        }
+    }
+
+    private PlayerStatsAggregator aggregate(List<Game> games) {
+        boolean parallel = switch (computationMode) {
+            case SEQUENTIAL, DATABASE -> false;
+            case PARALLEL -> true;
+            case THRESHOLD -> games.size() >= parallelThreshold;
+        };
+        if (parallel) {
+            return PlayerStatsAggregator.aggregateInParallel(games, ForkJoinPool.commonPool());
+        }
+
+        PlayerStatsAggregator aggregator = new PlayerStatsAggregator();
+        aggregator.addGames(games);
+        return aggregator;
+    }
+
+    private void applyGames(Collection<Game> games, int sign) {
+        PlayerStatsAggregator aggregator = new PlayerStatsAggregator();
+        aggregator.addGames(games);
+        List<PlayerStats> deltas = aggregator.getAllStatistics();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Long> playerIds = deltas.stream().map(delta -> delta.player().getId()).toList();
+        Map<Long, PlayerStatsEntity> storedStats =
+                byPlayerId(statsRepository.findAllByPlayerIdInForUpdate(playerIds));
+        List<PlayerStatsEntity> statsToSave = new ArrayList<>();
+        for (PlayerStats delta : deltas) {
+            PlayerStatsEntity entity = storedStats.get(delta.player().getId());
+            if (entity == null) {
+                // statistics are created together with their player, so the player has been deleted concurrently
+                continue;
+            }
+            addToEntity(entity, delta, sign);
+            statsToSave.add(entity);
+        }
+        statsRepository.saveAll(statsToSave);
+    }
+
+    // stores empty statistics for the given players that have none yet, within the current transaction. Statistics are
+    // created together with their player, so this only affects players created before that was the case
+    private void createMissingStatistics(Collection<Long> playerIds) {
+        Set<Long> missingIds = new TreeSet<>(playerIds);
+        if (!missingIds.isEmpty()) {
+            statsRepository.findPlayerIdsWithStatistics(missingIds).forEach(missingIds::remove);
+        }
+        if (!missingIds.isEmpty()) {
+            statsRepository.saveAll(missingIds.stream().map(PlayerStatsEntity::new).toList());
+            statsRepository.flush();
+        }
+    }
+
+    private void addToEntity(PlayerStatsEntity entity, PlayerStats delta, int sign) {
+        entity.setTotalGamesPlayed(entity.getTotalGamesPlayed() + sign * delta.totalGamesPlayed());
+        entity.setTotalWins(entity.getTotalWins() + sign * delta.totalWins());
+        entity.setTimesStoryteller(entity.getTimesStoryteller() + sign * delta.timesStoryteller());
+        entity.setTimesDeadAtEnd(entity.getTimesDeadAtEnd() + sign * delta.timesDeadAtEnd());
+        entity.setTimesGood(entity.getTimesGood() + sign * delta.timesGood());
+        entity.setTimesEvil(entity.getTimesEvil() + sign * delta.timesEvil());
+        delta.characterTypeCounts().forEach((type, count) ->
+                addCount(entity.getCharacterTypeCounts(), typeMapper.toTransferObject(type), sign * count));
+        delta.characterPlayingCounts().forEach((character, count) ->
+                addCount(entity.getCharacterPlayingCounts(), character.getId(), sign * count));
+    }
+
+    private static <K> void addCount(Map<K, Integer> counts, K key, int delta) {
+        // entries dropping to zero are removed, so that the stored maps equal those of a full recomputation
+        counts.merge(key, delta, (oldCount, change) -> oldCount + change == 0 ? null : oldCount + change);
+    }
+
+    private static void resetCounts(PlayerStatsEntity entity) {
+        entity.setTotalGamesPlayed(0);
+        entity.setTotalWins(0);
+        entity.setTimesStoryteller(0);
+        entity.setTimesDeadAtEnd(0);
+        entity.setTimesGood(0);
+        entity.setTimesEvil(0);
+        entity.getCharacterTypeCounts().clear();
+        entity.getCharacterPlayingCounts().clear();
+    }
+
+    private PlayerStats toPlayerStats(Player player, PlayerStatsEntity entity, Map<Long, Character> characters) {
+        if (entity == null) {
+            return new PlayerStats(player);
+        }
+
+        Map<CharacterType, Integer> typeCounts = new EnumMap<>(CharacterType.class);
+        entity.getCharacterTypeCounts().forEach((type, count) -> typeCounts.put(typeMapper.toBusinessObject(type),
+                count));
+        Map<Character, Integer> characterCounts = new HashMap<>();
+        entity.getCharacterPlayingCounts().forEach((characterId, count) -> {
+            Character character = characters.get(characterId);
+            if (character != null) {
+                characterCounts.put(character, count);
+            }
+        });
 
-        return players.stream().map(player -> calculatePlayerStatistics(player, games)).toList();
+        return new PlayerStats(
+                player,
+                entity.getTotalGamesPlayed(),
+                entity.getTotalWins(),
+                entity.getTimesStoryteller(),
+                entity.getTimesDeadAtEnd(),
+                entity.getTimesGood(),
+                entity.getTimesEvil(),
+                typeCounts,
+                characterCounts
+        );
     }
 
-    private PlayerStats calculatePlayerStatistics(Player player, List<Game> games) {
-        PlayerStats statistics = new PlayerStats(player);
-        games.forEach(statistics::addGame);
-        return statistics;
+    private static Map<Long, PlayerStatsEntity> byPlayerId(List<PlayerStatsEntity> stats) {
+        return stats.stream().collect(Collectors.toMap(PlayerStatsEntity::getPlayerId, Function.identity()));
     }
 }
@@ -1,5 +1,7 @@
 package com.tikelespike.gamestats.businesslogic.services;
 
+import com.tikelespike.gamestats.businesslogic.entities.AuthenticatedUser;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
 import com.tikelespike.gamestats.businesslogic.entities.User;
 import com.tikelespike.gamestats.businesslogic.entities.UserCreationRequest;
 import com.tikelespike.gamestats.businesslogic.exceptions.InvalidDataException;
@@ -9,21 +11,31 @@ import com.tikelespike.gamestats.businesslogic.mapper.UserPlayerEntityMapper;
 import com.tikelespike.gamestats.businesslogic.mapper.UserRoleEntityMapper;
 import com.tikelespike.gamestats.data.entities.PlayerEntity;
 import com.tikelespike.gamestats.data.entities.UserEntity;
+import com.tikelespike.gamestats.data.projections.UserIdentity;
 import com.tikelespike.gamestats.data.repositories.PlayerRepository;
 import com.tikelespike.gamestats.data.repositories.UserRepository;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.transaction.Transactional;
 import org.hibernate.StaleObjectStateException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
 /**
- * Service for managing user registration and querying.
+ * Service for managing user registration and querying. Users authenticated by token are cached for a short time, so
+ * authenticating a request does not require a database query. At most a configured number of users is cached, the
+ * least recently used one being replaced once that number is reached. Cached users are evicted when they are updated
+ * or deleted.
  */
 @Service
 public class UserService implements UserDetailsService {
@@ -32,6 +44,8 @@ public class UserService implements UserDetailsService {
     private final UserPlayerEntityMapper mapper;
     private final UserRoleEntityMapper roleMapper;
     private final PlayerRepository playerRepository;
+    private final RevisionService revisionService;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /**
      * Creates a new user service. This is usually done by the Spring framework, which manages the service's lifecycle
@@ -42,13 +56,21 @@ public class UserService implements UserDetailsService {
      * @param roleMapper mapper for converting between user role business objects and user role entities
      * @param playerRepository repository managing player entities (needed to keep user-player relationship
      *         intact)
+     * @param revisionService service keeping track of changes to the users and their players
+     * @param authenticatedUserCacheTtl how long a user authenticated by token is cached
+     * @param authenticatedUserCacheMaxSize the maximum number of users authenticated by token that are cached
      */
     public UserService(UserRepository repository, UserPlayerEntityMapper mapper, UserRoleEntityMapper roleMapper,
-                       PlayerRepository playerRepository) {
+                       PlayerRepository playerRepository, RevisionService revisionService,
+                       @Value("${security.principal-cache.ttl}") Duration authenticatedUserCacheTtl,
+                       @Value("${security.principal-cache.max-size}") int authenticatedUserCacheMaxSize) {
         this.repository = repository;
         this.mapper = mapper;
         this.roleMapper = roleMapper;
         this.playerRepository = playerRepository;
+        this.revisionService = revisionService;
+        this.authenticatedUserCache = new AuthenticatedUserCache(authenticatedUserCacheTtl,
+                authenticatedUserCacheMaxSize, Clock.systemUTC());
     }
 
     @Override
@@ -57,6 +79,29 @@ public class UserService implements UserDetailsService {
         return mapper.toBusinessObject(user);
     }
 
+    /**
+     * Loads the identity of the user a valid authentication token has been issued for. In contrast to
+     * {@link #loadUserByUsername(String)}, only the id and role of the user are loaded (with a single lookup in the
+     * unique index on the email address), and they may be taken from a cache that is kept for a short time, so this
+     * should only be used to authenticate requests.
+     *
+     * @param username the username (email address) of the user
+     *
+     * @return the identity of the user with the given username, or null if no such user exists
+     */
+    public AuthenticatedUser getAuthenticatedUser(String username) {
+        return authenticatedUserCache.get(username, this::loadAuthenticatedUser);
+    }
+
+    private AuthenticatedUser loadAuthenticatedUser(String username) {
+        UserIdentity identity = repository.findIdentityByEmail(username);
+        if (identity == null) {
+            return null;
+        }
+        return new AuthenticatedUser(identity.getId(), identity.getEmail(),
+                roleMapper.toBusinessObject(identity.getRole()));
+    }
+
     /**
      * Loads a user by its unique identifier.
      *
@@ -107,6 +152,8 @@ public class UserService implements UserDetailsService {
                 playerRepository.save(player);
             }
             repository.deleteById(id);
+            evictAuthenticatedUser(id);
+            revisionService.recordChange(ResourceCollection.USERS, ResourceCollection.PLAYERS);
         }
     }
 
@@ -127,8 +174,8 @@ public class UserService implements UserDetailsService {
             throw new ResourceNotFoundException("User with id " + user.getId() + " does not exist");
         }
 
-        UserEntity existingUser = repository.findByEmail(user.getEmail());
-        if (existingUser != null && !existingUser.getId().equals(user.getId())) {
+        UserIdentity existingUser = repository.findIdentityByEmail(user.getEmail());
+        if (existingUser != null && existingUser.getId() != user.getId()) {
             throw new InvalidDataException("User with that mail address already exists");
         }
 
@@ -153,6 +200,9 @@ public class UserService implements UserDetailsService {
         } catch (StaleObjectStateException | OptimisticLockException | OptimisticLockingFailureException e) {
             throw new StaleDataException(e);
         }
+        evictAuthenticatedUser(user.getId());
+        // the name of a player is the name of its owner
+        revisionService.recordChange(ResourceCollection.USERS, ResourceCollection.PLAYERS);
         return mapper.toBusinessObject(savedEntity);
     }
 
@@ -166,7 +216,7 @@ public class UserService implements UserDetailsService {
     @Transactional
     public User createUser(UserCreationRequest data) {
         Objects.requireNonNull(data, "Creation request may not be null");
-        if (repository.findByEmail(data.email()) != null) {
+        if (repository.existsByEmail(data.email())) {
             throw new InvalidDataException("User with that mail address already exists");
         }
 
@@ -189,13 +239,39 @@ public class UserService implements UserDetailsService {
                 roleMapper.toTransferObjectNoCheck(data.role())
         );
         // Because player is the owning side, we have to save the player as well to save the association
-        UserEntity savedEntity = repository.save(entityToSave);
+        UserEntity savedEntity;
+        try {
+            // flushed immediately, so a concurrently created user with the same email address is detected here
+            savedEntity = repository.saveAndFlush(entityToSave);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidDataException("User with that mail address already exists", e);
+        }
         PlayerEntity player = entityToSave.getPlayer();
         if (player != null) {
             player.setOwner(savedEntity);
             PlayerEntity savedPlayer = playerRepository.save(player);
             savedEntity.setPlayer(savedPlayer);
+            revisionService.recordChange(ResourceCollection.USERS, ResourceCollection.PLAYERS);
+        } else {
+            revisionService.recordChange(ResourceCollection.USERS);
         }
         return mapper.toBusinessObject(savedEntity);
     }
+
+    private void evictAuthenticatedUser(long id) {
+        evictCachedUser(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // requests authenticated before the commit may have cached the old state again
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCachedUser(id);
+                }
+            });
+        }
+    }
+
+    private void evictCachedUser(long id) {
+        authenticatedUserCache.evict(id);
+    }
 }
@@ -13,8 +13,10 @@ import jakarta.persistence.Version;
 @MappedSuperclass
 public abstract class AbstractEntity {
 
+    // Ids are taken from a sequence per entity (named <entity name>_seq), in blocks of 50 using the pooled optimizer.
+    // In contrast to identity columns, this allows Hibernate to batch inserts, as ids are known before inserting.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Version
@@ -0,0 +1,42 @@
+package com.tikelespike.gamestats.data.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * Database representation of the revision counter of a collection of resources (like all games). The counter is
+ * incremented by every transaction that changes resources of the collection.
+ */
+@Entity(name = "collection_revisions")
+public class CollectionRevisionEntity {
+
+    @Id
+    private String collection;
+
+    private long revision;
+
+    /**
+     * Creates a new revision entity with uninitialized fields. This constructor is used by the JPA provider to create a
+     * new instance of this entity from the database.
+     */
+    protected CollectionRevisionEntity() {
+    }
+
+    /**
+     * Returns the name of the collection this revision counter belongs to.
+     *
+     * @return the name of the collection
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * Returns the current revision of the collection.
+     *
+     * @return the number of changes made to the collection
+     */
+    public long getRevision() {
+        return revision;
+    }
+}
@@ -11,6 +11,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OrderColumn;
 import jakarta.validation.constraints.NotNull;
@@ -18,20 +21,64 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import static jakarta.persistence.FetchType.EAGER;
-
 /**
- * Database representation of a game of Blood on the Clocktower.
+ * Database representation of a game of Blood on the Clocktower. All associations are loaded lazily. Use cases that
+ * need them choose one of the named entity graphs of this entity to fetch exactly the associations they require in a
+ * single query (collections not contained in the graph are loaded in batches when accessed). At most one bag (list
+ * without order column) is contained in each graph, as fetching multiple bags at once is not supported.
  */
 @Entity(name = "games")
+@NamedEntityGraph(
+        name = GameEntity.GRAPH_FULL,
+        attributeNodes = {
+                @NamedAttributeNode("script"),
+                @NamedAttributeNode(value = "participants", subgraph = "participants"),
+                @NamedAttributeNode("storytellers")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "participants",
+                attributeNodes = {
+                        @NamedAttributeNode("player"),
+                        @NamedAttributeNode("initialCharacter"),
+                        @NamedAttributeNode("endCharacter")
+                }
+        )
+)
+@NamedEntityGraph(
+        name = GameEntity.GRAPH_STATS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "participants", subgraph = "participants"),
+                @NamedAttributeNode("storytellers")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "participants",
+                attributeNodes = {
+                        @NamedAttributeNode("player"),
+                        @NamedAttributeNode("initialCharacter"),
+                        @NamedAttributeNode("endCharacter")
+                }
+        )
+)
 public class GameEntity extends AbstractEntity {
 
+    /**
+     * Name of the entity graph loading a game with all of its associations, as needed for reading a single game.
+     */
+    public static final String GRAPH_FULL = "games.full";
+
+    /**
+     * Name of the entity graph loading a game with the associations relevant for player statistics (participants with
+     * their players and characters, and storytellers).
+     */
+    public static final String GRAPH_STATS = "games.stats";
+
     private static final int DESCRIPTION_MAX_LENGTH = 5000;
     @NotNull
     @ManyToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             optional = true
     )
     @OnDelete(action = OnDeleteAction.SET_NULL)
@@ -49,14 +96,14 @@ public class GameEntity extends AbstractEntity {
     @NotNull
     @OneToMany(
             mappedBy = "game",
-            fetch = EAGER,
+            fetch = FetchType.LAZY,
             cascade = CascadeType.ALL,
             orphanRemoval = true
     )
     @OrderColumn(name = "participant_order")
     private List<PlayerParticipationEntity> participants;
 
-    @ManyToMany(fetch = EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "game_winning_players",
             joinColumns = @JoinColumn(name = "game_id"),
@@ -70,7 +117,7 @@ public class GameEntity extends AbstractEntity {
     )
     private List<PlayerEntity> winningPlayers;
 
-    @ManyToMany(fetch = EAGER)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "game_storytellers",
             joinColumns = @JoinColumn(name = "game_id"),
@@ -183,6 +230,17 @@ public class GameEntity extends AbstractEntity {
         return new ArrayList<>(participants);
     }
 
+    /**
+     * Returns an unmodifiable view of the player participations in this game. In contrast to
+     * {@link #getParticipants()}, the list is not copied, and changes to the participations of this game are visible
+     * in the view.
+     *
+     * @return an unmodifiable list of the player participations in this game
+     */
+    public List<PlayerParticipationEntity> getParticipantsView() {
+        return Collections.unmodifiableList(participants);
+    }
+
     /**
      * Sets the list of player participations in this game. This method is used by the JPA provider to set the
      * participants when loading this game from the database.
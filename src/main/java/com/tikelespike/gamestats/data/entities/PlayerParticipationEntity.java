@@ -13,18 +13,18 @@ import org.hibernate.annotations.OnDeleteAction;
  */
 @Entity(name = "player_participations")
 public class PlayerParticipationEntity extends AbstractEntity {
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     private GameEntity game;
 
     @ManyToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             optional = true
     )
     @OnDelete(action = OnDeleteAction.SET_NULL)
     private PlayerEntity player;
 
     @ManyToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             optional = true
     )
     @OnDelete(action = OnDeleteAction.SET_NULL)
@@ -34,7 +34,7 @@ public class PlayerParticipationEntity extends AbstractEntity {
     private AlignmentEntity initialAlignment;
 
     @ManyToOne(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             optional = true
     )
     @OnDelete(action = OnDeleteAction.SET_NULL)
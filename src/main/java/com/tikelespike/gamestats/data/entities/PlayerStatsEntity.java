@@ -0,0 +1,210 @@
+package com.tikelespike.gamestats.data.entities;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.MapKeyEnumerated;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Database representation of the aggregated statistics of a single player. Instead of being recomputed from the whole
+ * game history, these aggregates are kept up to date whenever a game is created, updated or deleted.
+ */
+@Entity(name = "player_stats")
+public class PlayerStatsEntity extends AbstractEntity {
+
+    @Column(unique = true)
+    private Long playerId;
+
+    private int totalGamesPlayed;
+    private int totalWins;
+    private int timesStoryteller;
+    private int timesDeadAtEnd;
+    private int timesGood;
+    private int timesEvil;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(
+            name = "player_stats_character_types",
+            joinColumns = @JoinColumn(name = "player_stats_id")
+    )
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "character_type")
+    @Column(name = "play_count")
+    private Map<CharacterTypeEntity, Integer> characterTypeCounts = new EnumMap<>(CharacterTypeEntity.class);
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
+    @CollectionTable(
+            name = "player_stats_characters",
+            joinColumns = @JoinColumn(name = "player_stats_id")
+    )
+    @MapKeyColumn(name = "character_id")
+    @Column(name = "play_count")
+    private Map<Long, Integer> characterPlayingCounts = new HashMap<>();
+
+    /**
+     * Creates a new player statistics entity with uninitialized fields. This constructor is used by the JPA provider to
+     * create a new instance of this entity from the database.
+     */
+    protected PlayerStatsEntity() {
+    }
+
+    /**
+     * Creates a new, empty player statistics entity (all counters set to zero).
+     *
+     * @param playerId unique identifier of the player these statistics are about
+     */
+    public PlayerStatsEntity(Long playerId) {
+        super(null, null);
+        this.playerId = playerId;
+    }
+
+    /**
+     * Returns the unique identifier of the player these statistics are about.
+     *
+     * @return the id of the player
+     */
+    public Long getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * Returns the total number of games the player has played, either as a player or as a storyteller.
+     *
+     * @return the total number of games played
+     */
+    public int getTotalGamesPlayed() {
+        return totalGamesPlayed;
+    }
+
+    /**
+     * Sets the total number of games the player has played, either as a player or as a storyteller.
+     *
+     * @param totalGamesPlayed the total number of games played
+     */
+    public void setTotalGamesPlayed(int totalGamesPlayed) {
+        this.totalGamesPlayed = totalGamesPlayed;
+    }
+
+    /**
+     * Returns the total number of games the player has won.
+     *
+     * @return the total number of games won
+     */
+    public int getTotalWins() {
+        return totalWins;
+    }
+
+    /**
+     * Sets the total number of games the player has won.
+     *
+     * @param totalWins the total number of games won
+     */
+    public void setTotalWins(int totalWins) {
+        this.totalWins = totalWins;
+    }
+
+    /**
+     * Returns the number of games the player has acted as storyteller for.
+     *
+     * @return the number of games as storyteller
+     */
+    public int getTimesStoryteller() {
+        return timesStoryteller;
+    }
+
+    /**
+     * Sets the number of games the player has acted as storyteller for.
+     *
+     * @param timesStoryteller the number of games as storyteller
+     */
+    public void setTimesStoryteller(int timesStoryteller) {
+        this.timesStoryteller = timesStoryteller;
+    }
+
+    /**
+     * Returns the number of games where the player was dead at the end of the game.
+     *
+     * @return the number of games the player was dead at the end
+     */
+    public int getTimesDeadAtEnd() {
+        return timesDeadAtEnd;
+    }
+
+    /**
+     * Sets the number of games where the player was dead at the end of the game.
+     *
+     * @param timesDeadAtEnd the number of games the player was dead at the end
+     */
+    public void setTimesDeadAtEnd(int timesDeadAtEnd) {
+        this.timesDeadAtEnd = timesDeadAtEnd;
+    }
+
+    /**
+     * Returns the number of games where the player was on the good team at the end.
+     *
+     * @return the number of games on the good team
+     */
+    public int getTimesGood() {
+        return timesGood;
+    }
+
+    /**
+     * Sets the number of games where the player was on the good team at the end.
+     *
+     * @param timesGood the number of games on the good team
+     */
+    public void setTimesGood(int timesGood) {
+        this.timesGood = timesGood;
+    }
+
+    /**
+     * Returns the number of games where the player was on the evil team at the end.
+     *
+     * @return the number of games on the evil team
+     */
+    public int getTimesEvil() {
+        return timesEvil;
+    }
+
+    /**
+     * Sets the number of games where the player was on the evil team at the end.
+     *
+     * @param timesEvil the number of games on the evil team
+     */
+    public void setTimesEvil(int timesEvil) {
+        this.timesEvil = timesEvil;
+    }
+
+    /**
+     * Returns the (modifiable) map counting how often the player has played a character of each type. Types the player
+     * has never played are not contained in the map.
+     *
+     * @return a map from character type to the number of times a character of that type was played
+     */
+    public Map<CharacterTypeEntity, Integer> getCharacterTypeCounts() {
+        return characterTypeCounts;
+    }
+
+    /**
+     * Returns the (modifiable) map counting how often the player has played each character. Characters the player has
+     * never played are not contained in the map.
+     *
+     * @return a map from character id to the number of games the player has played that character
+     */
+    public Map<Long, Integer> getCharacterPlayingCounts() {
+        return characterPlayingCounts;
+    }
+}
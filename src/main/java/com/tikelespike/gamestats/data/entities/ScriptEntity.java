@@ -9,6 +9,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -145,6 +146,17 @@ public class ScriptEntity extends AbstractEntity {
         return new ArrayList<>(characters);
     }
 
+    /**
+     * Returns an unmodifiable view of the characters that may appear in a game when using this script. In contrast to
+     * {@link #getCharacters()}, the list is not copied, and changes to the characters of this script are visible in
+     * the view.
+     *
+     * @return an unmodifiable list of the characters that may appear in a game when using this script
+     */
+    public List<CharacterEntity> getCharactersView() {
+        return Collections.unmodifiableList(characters);
+    }
+
     /**
      * Removes a character from this script.
      *
@@ -0,0 +1,49 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * The columns of a single game that are exported as they are stored, without any of its associations.
+ */
+public interface GameExportRow {
+
+    /**
+     * Returns the unique identifier of the game.
+     *
+     * @return the id of the game
+     */
+    long getId();
+
+    /**
+     * Returns the version counter of the game used for optimistic locking.
+     *
+     * @return the version of the game
+     */
+    Long getVersion();
+
+    /**
+     * Returns the name of the game.
+     *
+     * @return the name of the game
+     */
+    String getName();
+
+    /**
+     * Returns the description of the game.
+     *
+     * @return the description of the game (may be null)
+     */
+    String getDescription();
+
+    /**
+     * Returns the unique identifier of the script the game was played with.
+     *
+     * @return the id of the script
+     */
+    Long getScriptId();
+
+    /**
+     * Returns the name of the alignment that won the game.
+     *
+     * @return the winning alignment, or null if the winners of the game are stored as players
+     */
+    String getWinningAlignment();
+}
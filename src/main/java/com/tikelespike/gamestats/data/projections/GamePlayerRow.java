@@ -0,0 +1,22 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * A single entry of a join table associating players with games (for example the storytellers or the winners of a
+ * game).
+ */
+public interface GamePlayerRow {
+
+    /**
+     * Returns the unique identifier of the game.
+     *
+     * @return the id of the game
+     */
+    long getGameId();
+
+    /**
+     * Returns the unique identifier of the player associated with the game.
+     *
+     * @return the id of the player
+     */
+    long getPlayerId();
+}
@@ -0,0 +1,57 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * The columns of a single player participation that are exported as they are stored, referencing the player and
+ * characters by id only.
+ */
+public interface ParticipationExportRow {
+
+    /**
+     * Returns the unique identifier of the game the participation belongs to.
+     *
+     * @return the id of the game
+     */
+    long getGameId();
+
+    /**
+     * Returns the unique identifier of the participating player.
+     *
+     * @return the id of the player, or null if the player has been deleted
+     */
+    Long getPlayerId();
+
+    /**
+     * Returns the unique identifier of the character the player started with.
+     *
+     * @return the id of the initial character (may be null)
+     */
+    Long getInitialCharacterId();
+
+    /**
+     * Returns the name of the alignment the player started with.
+     *
+     * @return the initial alignment (may be null)
+     */
+    String getInitialAlignment();
+
+    /**
+     * Returns the unique identifier of the character the player ended with.
+     *
+     * @return the id of the end character (may be null)
+     */
+    Long getEndCharacterId();
+
+    /**
+     * Returns the name of the alignment the player ended with.
+     *
+     * @return the end alignment (may be null)
+     */
+    String getEndAlignment();
+
+    /**
+     * Returns whether the player was alive at the end of the game.
+     *
+     * @return true if and only if the player was alive at the end of the game
+     */
+    boolean getAliveAtEnd();
+}
@@ -0,0 +1,28 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * Number of games a single player has played a single character in.
+ */
+public interface PlayerCharacterCount {
+
+    /**
+     * Returns the unique identifier of the player this count is about.
+     *
+     * @return the id of the player
+     */
+    long getPlayerId();
+
+    /**
+     * Returns the unique identifier of the character this count is about.
+     *
+     * @return the id of the character
+     */
+    long getCharacterId();
+
+    /**
+     * Returns the number of games the player has played the character in.
+     *
+     * @return the number of games the character was played
+     */
+    long getPlayCount();
+}
@@ -0,0 +1,29 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * Number of times a single player has played a character of a single character type.
+ */
+public interface PlayerCharacterTypeCount {
+
+    /**
+     * Returns the unique identifier of the player this count is about.
+     *
+     * @return the id of the player
+     */
+    long getPlayerId();
+
+    /**
+     * Returns the name of the character type this count is about, as stored in the database (the name of the
+     * corresponding {@link com.tikelespike.gamestats.data.entities.CharacterTypeEntity} constant).
+     *
+     * @return the name of the character type
+     */
+    String getCharacterType();
+
+    /**
+     * Returns the number of times the player has played a character of the type.
+     *
+     * @return the number of times a character of the type was played
+     */
+    long getPlayCount();
+}
@@ -0,0 +1,50 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * Counters aggregated over all participations of a single player that count towards the player's statistics (that
+ * is, excluding games in which the player acted as storyteller).
+ */
+public interface PlayerParticipationCounts {
+
+    /**
+     * Returns the unique identifier of the player these counters are about.
+     *
+     * @return the id of the player
+     */
+    long getPlayerId();
+
+    /**
+     * Returns the number of games the player has participated in (not as storyteller).
+     *
+     * @return the number of games participated in
+     */
+    long getGamesPlayed();
+
+    /**
+     * Returns the number of games the player has won.
+     *
+     * @return the number of games won
+     */
+    long getWins();
+
+    /**
+     * Returns the number of games where the player was dead at the end of the game.
+     *
+     * @return the number of games the player was dead at the end
+     */
+    long getDeadAtEnd();
+
+    /**
+     * Returns the number of games where the player was on the good team at the end.
+     *
+     * @return the number of games on the good team
+     */
+    long getTimesGood();
+
+    /**
+     * Returns the number of games where the player was on the evil team at the end.
+     *
+     * @return the number of games on the evil team
+     */
+    long getTimesEvil();
+}
@@ -0,0 +1,21 @@
+package com.tikelespike.gamestats.data.projections;
+
+/**
+ * Number of games a single player has acted as storyteller for.
+ */
+public interface PlayerStorytellerCount {
+
+    /**
+     * Returns the unique identifier of the player this count is about.
+     *
+     * @return the id of the player
+     */
+    long getPlayerId();
+
+    /**
+     * Returns the number of games the player has acted as storyteller for.
+     *
+     * @return the number of games as storyteller
+     */
+    long getTimesStoryteller();
+}
@@ -0,0 +1,30 @@
+package com.tikelespike.gamestats.data.projections;
+
+import com.tikelespike.gamestats.data.entities.UserRoleEntity;
+
+/**
+ * The identity of a user as needed to authorize requests, without the user's password, name and player.
+ */
+public interface UserIdentity {
+
+    /**
+     * Returns the unique identifier of the user.
+     *
+     * @return the id of the user
+     */
+    long getId();
+
+    /**
+     * Returns the email address the user signs in with.
+     *
+     * @return the email address of the user
+     */
+    String getEmail();
+
+    /**
+     * Returns the role of the user, which determines their permissions.
+     *
+     * @return the role of the user
+     */
+    UserRoleEntity getRole();
+}
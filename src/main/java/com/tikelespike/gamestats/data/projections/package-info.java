@@ -0,0 +1,5 @@
+/**
+ * This package contains flat projections of query results computed in the database (for example aggregates), which
+ * are returned by repositories instead of full entities to avoid loading whole object graphs into memory.
+ */
+package com.tikelespike.gamestats.data.projections;
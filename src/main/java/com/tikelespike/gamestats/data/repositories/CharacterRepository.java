@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -47,6 +48,26 @@ public interface CharacterRepository extends Repository<CharacterEntity, Long> {
      */
     CharacterEntity findById(Long id);
 
+    /**
+     * Retrieves exactly those characters the ids of which are in the passed collection of ids. Ids of characters that
+     * do not exist are ignored.
+     *
+     * @param ids ids of the characters to fetch
+     *
+     * @return the list of characters with those ids
+     */
+    List<CharacterEntity> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieves those of the given ids that belong to existing characters, without loading the characters themselves.
+     *
+     * @param ids ids of the characters to check
+     *
+     * @return the ids of the characters that exist
+     */
+    @Query("SELECT c.id FROM characters c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Retrieves exactly those characters the ids of which are in the passed list of ids. Acquires a pessimistic write
      * lock, that is, the characters cannot be changed until the lock is released.
@@ -65,4 +86,10 @@ public interface CharacterRepository extends Repository<CharacterEntity, Long> {
      * @param id the id of the character to delete
      */
     void deleteById(Long id);
+
+    /**
+     * Synchronizes all pending changes to character entities with the database, for example to make deletions visible
+     * to subsequent native or cascading database operations within the same transaction.
+     */
+    void flush();
 }
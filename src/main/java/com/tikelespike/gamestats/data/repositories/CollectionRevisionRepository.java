@@ -0,0 +1,38 @@
+package com.tikelespike.gamestats.data.repositories;
+
+import com.tikelespike.gamestats.data.entities.CollectionRevisionEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+/**
+ * Repository for the revision counters of the resource collections. Reads and increments the counters without loading
+ * the collections themselves.
+ */
+public interface CollectionRevisionRepository extends Repository<CollectionRevisionEntity, String> {
+
+    /**
+     * Retrieves the current revision of a collection.
+     *
+     * @param collection name of the collection
+     *
+     * @return the current revision of the collection, or null if there is no counter for the collection
+     */
+    @Query("SELECT r.revision FROM collection_revisions r WHERE r.collection = :collection")
+    Long findRevision(@Param("collection") String collection);
+
+    /**
+     * Increments the revisions of the given collections by one. The updated counters stay locked until the current
+     * transaction is completed, so concurrent changes to the same collection are counted one after the other.
+     *
+     * @param collections names of the changed collections
+     *
+     * @return the number of incremented counters
+     */
+    @Modifying
+    @Query("UPDATE collection_revisions r SET r.revision = r.revision + 1 WHERE r.collection IN :collections")
+    int incrementRevisions(@Param("collections") Collection<String> collections);
+}
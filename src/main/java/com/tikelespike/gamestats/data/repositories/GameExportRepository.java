@@ -0,0 +1,185 @@
+package com.tikelespike.gamestats.data.repositories;
+
+import com.tikelespike.gamestats.data.entities.GameEntity;
+import com.tikelespike.gamestats.data.projections.GameExportRow;
+import com.tikelespike.gamestats.data.projections.GamePlayerRow;
+import com.tikelespike.gamestats.data.projections.ParticipationExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository reading games as flat rows that reference the script, players and characters by id only, for example to
+ * export or list them without loading any entities. The streaming queries read the complete game history through a
+ * database cursor that is read in chunks of {@value #FETCH_SIZE} rows, so no more than one chunk is held in memory at a
+ * time. The streams must be consumed within a transaction and closed afterward. All queries are ordered by game id, so
+ * the rows belonging to the same game can be combined by reading the results side by side.
+ */
+public interface GameExportRepository extends Repository<GameEntity, Long> {
+
+    /**
+     * Number of rows fetched from the database per round trip when reading one of the streams.
+     */
+    String FETCH_SIZE = "500";
+
+    /**
+     * Streams the columns of all games, ordered by ascending id.
+     *
+     * @return a stream of all games
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(value = """
+            SELECT g.id AS id,
+                   g.version AS version,
+                   g.name AS name,
+                   g.description AS description,
+                   g.script_id AS scriptId,
+                   g.winning_alignment AS winningAlignment
+            FROM games g
+            ORDER BY g.id
+            """, nativeQuery = true)
+    Stream<GameExportRow> streamGames();
+
+    /**
+     * Streams the participations of all games, ordered by ascending game id and, within a game, in the order of the
+     * game's participants.
+     *
+     * @return a stream of all participations
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(value = """
+            SELECT pp.game_id AS gameId,
+                   pp.player_id AS playerId,
+                   pp.initial_character_id AS initialCharacterId,
+                   pp.initial_alignment AS initialAlignment,
+                   pp.end_character_id AS endCharacterId,
+                   pp.end_alignment AS endAlignment,
+                   pp.is_alive_at_end AS aliveAtEnd
+            FROM player_participations pp
+            WHERE pp.game_id IS NOT NULL
+            ORDER BY pp.game_id, pp.participant_order
+            """, nativeQuery = true)
+    Stream<ParticipationExportRow> streamParticipations();
+
+    /**
+     * Streams the storytellers of all games, ordered by ascending game id. Storytellers that have been deleted are
+     * omitted.
+     *
+     * @return a stream of all (game, storyteller) pairs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(value = """
+            SELECT s.game_id AS gameId,
+                   s.player_id AS playerId
+            FROM game_storytellers s
+            WHERE s.player_id IS NOT NULL
+            ORDER BY s.game_id
+            """, nativeQuery = true)
+    Stream<GamePlayerRow> streamStorytellers();
+
+    /**
+     * Streams the explicitly stored winners of all games, ordered by ascending game id. Games won by an alignment have
+     * no stored winners, their winners are the participants who ended the game with that alignment. Winners that have
+     * been deleted are omitted.
+     *
+     * @return a stream of all (game, winner) pairs
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FETCH_SIZE))
+    @Query(value = """
+            SELECT w.game_id AS gameId,
+                   w.player_id AS playerId
+            FROM game_winning_players w
+                     JOIN games g ON g.id = w.game_id
+            WHERE w.player_id IS NOT NULL
+              AND g.winning_alignment IS NULL
+            ORDER BY w.game_id
+            """, nativeQuery = true)
+    Stream<GamePlayerRow> streamWinningPlayers();
+
+    /**
+     * Retrieves the columns of the games with the given ids, ordered by ascending id.
+     *
+     * @param gameIds ids of the games to retrieve (games that do not exist are omitted)
+     *
+     * @return the games with the given ids
+     */
+    @Query(value = """
+            SELECT g.id AS id,
+                   g.version AS version,
+                   g.name AS name,
+                   g.description AS description,
+                   g.script_id AS scriptId,
+                   g.winning_alignment AS winningAlignment
+            FROM games g
+            WHERE g.id IN (:gameIds)
+            ORDER BY g.id
+            """, nativeQuery = true)
+    List<GameExportRow> findGames(@Param("gameIds") Collection<Long> gameIds);
+
+    /**
+     * Retrieves the participations of the games with the given ids, ordered by ascending game id and, within a game, in
+     * the order of the game's participants.
+     *
+     * @param gameIds ids of the games to retrieve the participations of
+     *
+     * @return the participations of the games
+     */
+    @Query(value = """
+            SELECT pp.game_id AS gameId,
+                   pp.player_id AS playerId,
+                   pp.initial_character_id AS initialCharacterId,
+                   pp.initial_alignment AS initialAlignment,
+                   pp.end_character_id AS endCharacterId,
+                   pp.end_alignment AS endAlignment,
+                   pp.is_alive_at_end AS aliveAtEnd
+            FROM player_participations pp
+            WHERE pp.game_id IN (:gameIds)
+            ORDER BY pp.game_id, pp.participant_order
+            """, nativeQuery = true)
+    List<ParticipationExportRow> findParticipations(@Param("gameIds") Collection<Long> gameIds);
+
+    /**
+     * Retrieves the storytellers of the games with the given ids, ordered by ascending game id. Storytellers that have
+     * been deleted are omitted.
+     *
+     * @param gameIds ids of the games to retrieve the storytellers of
+     *
+     * @return the (game, storyteller) pairs of the games
+     */
+    @Query(value = """
+            SELECT s.game_id AS gameId,
+                   s.player_id AS playerId
+            FROM game_storytellers s
+            WHERE s.game_id IN (:gameIds)
+              AND s.player_id IS NOT NULL
+            ORDER BY s.game_id
+            """, nativeQuery = true)
+    List<GamePlayerRow> findStorytellers(@Param("gameIds") Collection<Long> gameIds);
+
+    /**
+     * Retrieves the explicitly stored winners of the games with the given ids, ordered by ascending game id. As with
+     * {@link #streamWinningPlayers()}, games won by an alignment and winners that have been deleted are omitted.
+     *
+     * @param gameIds ids of the games to retrieve the winners of
+     *
+     * @return the (game, winner) pairs of the games
+     */
+    @Query(value = """
+            SELECT w.game_id AS gameId,
+                   w.player_id AS playerId
+            FROM game_winning_players w
+                     JOIN games g ON g.id = w.game_id
+            WHERE w.game_id IN (:gameIds)
+              AND w.player_id IS NOT NULL
+              AND g.winning_alignment IS NULL
+            ORDER BY w.game_id
+            """, nativeQuery = true)
+    List<GamePlayerRow> findWinningPlayers(@Param("gameIds") Collection<Long> gameIds);
+}
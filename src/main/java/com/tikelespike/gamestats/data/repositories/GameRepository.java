@@ -1,7 +1,12 @@
 package com.tikelespike.gamestats.data.repositories;
 
+import com.tikelespike.gamestats.data.entities.AlignmentEntity;
 import com.tikelespike.gamestats.data.entities.GameEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -20,20 +25,61 @@ public interface GameRepository extends Repository<GameEntity, Long> {
     GameEntity save(GameEntity game);
 
     /**
-     * Retrieves a game entity by its id.
+     * Saves multiple game entities to the database. The inserts and updates are sent to the database in JDBC batches
+     * where possible.
+     *
+     * @param games the game entities to save
+     *
+     * @return the saved game entities, in the same order
+     */
+    List<GameEntity> saveAll(Iterable<GameEntity> games);
+
+    /**
+     * Retrieves a game entity by its id, including all of its associations.
      *
      * @param id the id of the game to find
      *
      * @return the game entity with the given id, or null if no such entity exists
      */
+    @EntityGraph(GameEntity.GRAPH_FULL)
     GameEntity findById(Long id);
 
     /**
-     * Retrieves all game entities from the database.
+     * Retrieves the ids of a page of games using keyset pagination: only games with an id greater than the given
+     * cursor are considered, in ascending order of their ids. All criteria that are null are not applied. As the id is
+     * indexed, the cost of this query does not depend on how far the client has paged already.
+     *
+     * @param afterId only retrieve games with an id greater than this (null to start at the first game)
+     * @param scriptId only retrieve games played with the script with this id
+     * @param playerId only retrieve games the player with this id took part in (as participant or storyteller)
+     * @param winningAlignment only retrieve games won by this alignment
+     * @param limit the maximum number of ids to retrieve
+     *
+     * @return the ids of the games on the page, in ascending order
+     */
+    @Query("""
+            SELECT g.id FROM games g
+            WHERE (:afterId IS NULL OR g.id > :afterId)
+              AND (:scriptId IS NULL OR g.script.id = :scriptId)
+              AND (:winningAlignment IS NULL OR g.winningAlignment = :winningAlignment)
+              AND (:playerId IS NULL
+                   OR EXISTS (SELECT p.id FROM player_participations p WHERE p.game = g AND p.player.id = :playerId)
+                   OR EXISTS (SELECT s.id FROM games g2 JOIN g2.storytellers s WHERE g2 = g AND s.id = :playerId))
+            ORDER BY g.id
+            """)
+    List<Long> findIdPage(@Param("afterId") Long afterId, @Param("scriptId") Long scriptId,
+                          @Param("playerId") Long playerId,
+                          @Param("winningAlignment") AlignmentEntity winningAlignment, Limit limit);
+
+    /**
+     * Retrieves all game entities from the database, fetching the associations relevant for computing player
+     * statistics (participants with their players and characters, and storytellers) immediately.
      *
      * @return the list of game entities present in the database
      */
-    List<GameEntity> findAll();
+    @EntityGraph(GameEntity.GRAPH_STATS)
+    @Query("SELECT g FROM games g")
+    List<GameEntity> findAllForStatistics();
 
     /**
      * Deletes a game entity by its id.
@@ -1,8 +1,11 @@
 package com.tikelespike.gamestats.data.repositories;
 
 import com.tikelespike.gamestats.data.entities.PlayerEntity;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +37,26 @@ public interface PlayerRepository extends Repository<PlayerEntity, Long> {
      */
     List<PlayerEntity> findAll();
 
+    /**
+     * Retrieves exactly those players the ids of which are in the passed collection of ids. Ids of players that do not
+     * exist are ignored.
+     *
+     * @param ids ids of the players to fetch
+     *
+     * @return the list of players with those ids
+     */
+    List<PlayerEntity> findAllByIdIn(Collection<Long> ids);
+
+    /**
+     * Retrieves those of the given ids that belong to existing players, without loading the players themselves.
+     *
+     * @param ids ids of the players to check
+     *
+     * @return the ids of the players that exist
+     */
+    @Query("SELECT p.id FROM players p WHERE p.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     /**
      * Checks if a player with the given id exists in the system.
      *
@@ -0,0 +1,99 @@
+package com.tikelespike.gamestats.data.repositories;
+
+import com.tikelespike.gamestats.data.entities.PlayerParticipationEntity;
+import com.tikelespike.gamestats.data.projections.PlayerCharacterCount;
+import com.tikelespike.gamestats.data.projections.PlayerCharacterTypeCount;
+import com.tikelespike.gamestats.data.projections.PlayerParticipationCounts;
+import com.tikelespike.gamestats.data.projections.PlayerStorytellerCount;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+
+/**
+ * Repository computing player statistics directly in the database. Instead of loading all games with their
+ * participants, characters and players into memory, the statistics are aggregated with GROUP BY queries and returned
+ * as flat projections (a few rows per player). The counting rules are the same as those of
+ * {@link com.tikelespike.gamestats.businesslogic.entities.PlayerStats}.
+ */
+public interface PlayerStatsAggregationRepository extends Repository<PlayerParticipationEntity, Long> {
+
+    /**
+     * Aggregates the participation counters (games played, wins, deaths, alignments) of all players. Players that have
+     * not participated in any game (other than as storyteller) are omitted.
+     *
+     * @return the participation counters of each player
+     */
+    @Query(value = """
+            SELECT cp.player_id AS playerId,
+                   COUNT(*) AS gamesPlayed,
+                   SUM(cp.won) AS wins,
+                   SUM(CASE WHEN cp.is_alive_at_end THEN 0 ELSE 1 END) AS deadAtEnd,
+                   SUM(CASE WHEN cp.end_alignment = 'GOOD' THEN 1 ELSE 0 END) AS timesGood,
+                   SUM(CASE WHEN cp.end_alignment = 'EVIL' THEN 1 ELSE 0 END) AS timesEvil
+            FROM counted_player_participations cp
+            GROUP BY cp.player_id
+            """, nativeQuery = true)
+    List<PlayerParticipationCounts> countParticipations();
+
+    /**
+     * Counts the games each player has acted as storyteller for. Players that have never been storyteller are omitted.
+     *
+     * @return the storyteller counts of each player
+     */
+    @Query(value = """
+            SELECT s.player_id AS playerId,
+                   COUNT(DISTINCT s.game_id) AS timesStoryteller
+            FROM game_storytellers s
+            WHERE s.player_id IS NOT NULL
+            GROUP BY s.player_id
+            """, nativeQuery = true)
+    List<PlayerStorytellerCount> countStorytelling();
+
+    /**
+     * Counts how often each player has played each character. A character counts once per game, even if the player
+     * started and ended the game with it.
+     *
+     * @return the character counts of each player, only containing characters played at least once
+     */
+    @Query(value = """
+            SELECT pc.player_id AS playerId,
+                   pc.character_id AS characterId,
+                   COUNT(*) AS playCount
+            FROM (SELECT cp.player_id, cp.initial_character_id AS character_id
+                  FROM counted_player_participations cp
+                  WHERE cp.initial_character_id IS NOT NULL
+                  UNION ALL
+                  SELECT cp.player_id, cp.end_character_id AS character_id
+                  FROM counted_player_participations cp
+                  WHERE cp.end_character_id IS NOT NULL
+                    AND (cp.initial_character_id IS NULL OR cp.end_character_id <> cp.initial_character_id)) pc
+            GROUP BY pc.player_id, pc.character_id
+            """, nativeQuery = true)
+    List<PlayerCharacterCount> countCharacters();
+
+    /**
+     * Counts how often each player has played a character of each character type. A type counts once per game, even
+     * if the player started and ended the game with (possibly different) characters of that type.
+     *
+     * @return the character type counts of each player, only containing types played at least once
+     */
+    @Query(value = """
+            SELECT pt.player_id AS playerId,
+                   pt.character_type AS characterType,
+                   COUNT(*) AS playCount
+            FROM (SELECT cp.player_id, ci.character_type
+                  FROM counted_player_participations cp
+                           JOIN characters ci ON ci.id = cp.initial_character_id
+                  WHERE ci.character_type IS NOT NULL
+                  UNION ALL
+                  SELECT cp.player_id, ce.character_type
+                  FROM counted_player_participations cp
+                           JOIN characters ce ON ce.id = cp.end_character_id
+                           LEFT JOIN characters ci ON ci.id = cp.initial_character_id
+                  WHERE ce.character_type IS NOT NULL
+                    AND (ci.character_type IS NULL OR ce.character_type <> ci.character_type)) pt
+            GROUP BY pt.player_id, pt.character_type
+            """, nativeQuery = true)
+    List<PlayerCharacterTypeCount> countCharacterTypes();
+}
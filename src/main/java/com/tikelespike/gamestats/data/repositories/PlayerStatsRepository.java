@@ -0,0 +1,109 @@
+package com.tikelespike.gamestats.data.repositories;
+
+import com.tikelespike.gamestats.data.entities.PlayerStatsEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the aggregated player statistics. Stores and retrieves the incrementally maintained statistics of each
+ * player from the database.
+ */
+public interface PlayerStatsRepository extends Repository<PlayerStatsEntity, Long> {
+
+    /**
+     * Saves a player statistics entity to the database.
+     *
+     * @param stats the player statistics entity to save
+     *
+     * @return the saved player statistics entity
+     */
+    PlayerStatsEntity save(PlayerStatsEntity stats);
+
+    /**
+     * Saves multiple player statistics entities to the database in a single operation.
+     *
+     * @param stats the player statistics entities to save
+     *
+     * @return the saved player statistics entities
+     */
+    Iterable<PlayerStatsEntity> saveAll(Iterable<PlayerStatsEntity> stats);
+
+    /**
+     * Writes all pending changes of the current persistence context to the database, so that constraint violations are
+     * reported immediately.
+     */
+    void flush();
+
+    /**
+     * Retrieves all player statistics entities from the database.
+     *
+     * @return the list of all player statistics entities present in the database
+     */
+    List<PlayerStatsEntity> findAll();
+
+    /**
+     * Retrieves the statistics of a single player.
+     *
+     * @param playerId id of the player whose statistics to fetch
+     *
+     * @return the statistics of the player, or null if no statistics are stored for that player
+     */
+    PlayerStatsEntity findByPlayerId(Long playerId);
+
+    /**
+     * Retrieves the statistics of exactly those players whose ids are in the given collection. Players without stored
+     * statistics are omitted from the result.
+     *
+     * @param playerIds ids of the players whose statistics to fetch
+     *
+     * @return the list of statistics of those players
+     */
+    List<PlayerStatsEntity> findAllByPlayerIdIn(Collection<Long> playerIds);
+
+    /**
+     * Retrieves the statistics of exactly those players whose ids are in the given collection and locks them until the
+     * current transaction is completed. The rows are locked in ascending order of the player ids, so concurrent
+     * transactions locking overlapping sets of statistics wait for each other instead of deadlocking. Players without
+     * stored statistics are omitted from the result.
+     *
+     * @param playerIds ids of the players whose statistics to fetch
+     *
+     * @return the list of statistics of those players, ordered by player id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM player_stats s WHERE s.playerId IN :playerIds ORDER BY s.playerId")
+    List<PlayerStatsEntity> findAllByPlayerIdInForUpdate(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Retrieves all player statistics entities from the database and locks them until the current transaction is
+     * completed. The rows are locked in the same order as by {@link #findAllByPlayerIdInForUpdate(Collection)}.
+     *
+     * @return the list of all player statistics entities, ordered by player id
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM player_stats s ORDER BY s.playerId")
+    List<PlayerStatsEntity> findAllForUpdate();
+
+    /**
+     * Retrieves the ids of those players in the given collection for whom statistics are stored.
+     *
+     * @param playerIds ids of the players to check
+     *
+     * @return the ids of the players with stored statistics
+     */
+    @Query("SELECT s.playerId FROM player_stats s WHERE s.playerId IN :playerIds")
+    List<Long> findPlayerIdsWithStatistics(@Param("playerIds") Collection<Long> playerIds);
+
+    /**
+     * Counts the player statistics entities present in the database.
+     *
+     * @return the number of stored player statistics
+     */
+    long count();
+}
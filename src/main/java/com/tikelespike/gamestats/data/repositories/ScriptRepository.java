@@ -1,9 +1,9 @@
 package com.tikelespike.gamestats.data.repositories;
 
-import com.tikelespike.gamestats.data.entities.CharacterEntity;
 import com.tikelespike.gamestats.data.entities.ScriptEntity;
 import org.springframework.data.repository.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -30,13 +30,14 @@ public interface ScriptRepository extends Repository<ScriptEntity, Long> {
     ScriptEntity findById(Long id);
 
     /**
-     * Retrieves all script entities that contain all of the given characters.
+     * Retrieves exactly those scripts the ids of which are in the passed collection of ids. Ids of scripts that do not
+     * exist are ignored.
      *
-     * @param characters characters the returned scripts should contain
+     * @param ids ids of the scripts to fetch
      *
-     * @return a list of those scripts that contain the given characters
+     * @return the list of scripts with those ids
      */
-    List<ScriptEntity> findAllByCharactersContains(List<CharacterEntity> characters);
+    List<ScriptEntity> findAllByIdIn(Collection<Long> ids);
 
     /**
      * Retrieves all script entities from the database.
@@ -51,4 +52,10 @@ public interface ScriptRepository extends Repository<ScriptEntity, Long> {
      * @param id the id of the script to delete
      */
     void deleteById(Long id);
+
+    /**
+     * Synchronizes all pending changes to script entities with the database, for example to obtain the incremented
+     * version of an updated script within the same transaction.
+     */
+    void flush();
 }
@@ -1,6 +1,7 @@
 package com.tikelespike.gamestats.data.repositories;
 
 import com.tikelespike.gamestats.data.entities.UserEntity;
+import com.tikelespike.gamestats.data.projections.UserIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 /**
@@ -9,7 +10,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     /**
-     * Retrieves the user entity with the given email address.
+     * Retrieves the user entity with the given email address. Email addresses are unique among users.
      *
      * @param email user email address
      *
@@ -17,6 +18,26 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
      */
     UserEntity findByEmail(String email);
 
+    /**
+     * Retrieves the identity (id, email address and role) of the user with the given email address. In contrast to
+     * {@link #findByEmail(String)}, neither the user entity nor its player are loaded, so this is a single lookup in
+     * the unique index on the email address.
+     *
+     * @param email user email address
+     *
+     * @return the identity of the user with the given email address, or null if no such user exists
+     */
+    UserIdentity findIdentityByEmail(String email);
+
+    /**
+     * Checks whether a user with the given email address exists.
+     *
+     * @param email user email address
+     *
+     * @return true if and only if there is a user with the given email address
+     */
+    boolean existsByEmail(String email);
+
     /**
      * Retrieves the user entity with the given id from the database.
      *
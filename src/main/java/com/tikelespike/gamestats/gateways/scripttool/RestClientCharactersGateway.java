@@ -6,10 +6,13 @@ import com.tikelespike.gamestats.businesslogic.exceptions.ExternalServiceUnavail
 import com.tikelespike.gamestats.businesslogic.services.OfficialCharactersGateway;
 import org.apache.commons.lang3.NotImplementedException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientResponseException;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -31,14 +34,24 @@ public class RestClientCharactersGateway implements OfficialCharactersGateway {
             "travellers", CharacterType.TRAVELLER
     );
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(20);
+
     private final RestClient client;
 
     /**
-     * Creates a new gateway for accessing the official script tool via a Spring RestClient.
+     * Creates a new gateway for accessing the official script tool via a Spring RestClient. The client is based on the
+     * JDK HTTP client, which does not pin virtual threads to their carrier thread while waiting for the response.
      */
     public RestClientCharactersGateway() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
         client = RestClient.builder()
                 .baseUrl(SCRIPT_TOOL_URL)
+                .requestFactory(requestFactory)
                 .build();
     }
 
@@ -0,0 +1,49 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Replaces the identity columns of all entity tables by sequences, from which Hibernate allocates ids in blocks using
+ * its pooled optimizer. For each table, a sequence named {@code <table>_seq} is created, incrementing by the
+ * allocation size of the entities. Its first value is chosen such that the first block of ids lies above all existing
+ * ids. This is a Java migration because the start value depends on the existing data, which cannot be expressed in SQL
+ * supported by both PostgreSQL and H2.
+ */
+public class V6__sequence_ids extends BaseJavaMigration {
+
+    // must match the allocation size of the id generator of the entities (Hibernate's default)
+    private static final long ALLOCATION_SIZE = 50;
+
+    private static final List<String> ENTITY_TABLES = List.of(
+            "characters",
+            "games",
+            "player_participations",
+            "player_stats",
+            "players",
+            "scripts",
+            "users"
+    );
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : ENTITY_TABLES) {
+                long maxId;
+                try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    result.next();
+                    maxId = result.getLong(1);
+                }
+                // the pooled optimizer hands out the block of ids ending at the value returned by the sequence
+                statement.execute("CREATE SEQUENCE " + table + "_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * This package contains the database migrations that cannot be written as plain SQL scripts (which are located in the
+ * resource directory of the same name). Flyway picks up the migrations of both locations and applies them ordered by
+ * their version.
+ */
+package db.migration;
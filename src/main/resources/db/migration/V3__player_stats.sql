@@ -0,0 +1,44 @@
+CREATE TABLE player_stats
+(
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    version            BIGINT,
+    player_id          BIGINT                                  NOT NULL,
+    total_games_played INTEGER                                 NOT NULL,
+    total_wins         INTEGER                                 NOT NULL,
+    times_storyteller  INTEGER                                 NOT NULL,
+    times_dead_at_end  INTEGER                                 NOT NULL,
+    times_good         INTEGER                                 NOT NULL,
+    times_evil         INTEGER                                 NOT NULL,
+    CONSTRAINT pk_player_stats PRIMARY KEY (id)
+);
+
+CREATE TABLE player_stats_character_types
+(
+    player_stats_id BIGINT       NOT NULL,
+    character_type  VARCHAR(255) NOT NULL,
+    play_count      INTEGER      NOT NULL,
+    CONSTRAINT pk_player_stats_character_types PRIMARY KEY (player_stats_id, character_type)
+);
+
+CREATE TABLE player_stats_characters
+(
+    player_stats_id BIGINT  NOT NULL,
+    character_id    BIGINT  NOT NULL,
+    play_count      INTEGER NOT NULL,
+    CONSTRAINT pk_player_stats_characters PRIMARY KEY (player_stats_id, character_id)
+);
+
+ALTER TABLE player_stats
+    ADD CONSTRAINT uc_player_stats_player UNIQUE (player_id);
+
+ALTER TABLE player_stats
+    ADD CONSTRAINT FK_PLAYER_STATS_ON_PLAYER FOREIGN KEY (player_id) REFERENCES players (id) ON DELETE CASCADE;
+
+ALTER TABLE player_stats_character_types
+    ADD CONSTRAINT FK_PLAYER_STATS_CHARACTER_TYPES_ON_PLAYER_STATS FOREIGN KEY (player_stats_id) REFERENCES player_stats (id) ON DELETE CASCADE;
+
+ALTER TABLE player_stats_characters
+    ADD CONSTRAINT FK_PLAYER_STATS_CHARACTERS_ON_PLAYER_STATS FOREIGN KEY (player_stats_id) REFERENCES player_stats (id) ON DELETE CASCADE;
+
+ALTER TABLE player_stats_characters
+    ADD CONSTRAINT FK_PLAYER_STATS_CHARACTERS_ON_CHARACTER FOREIGN KEY (character_id) REFERENCES characters (id) ON DELETE CASCADE;
@@ -0,0 +1,24 @@
+-- Participations that count towards a player's statistics: those of existing players in existing games, excluding
+-- games in which the player acted as storyteller (these only count as storytelling). Winning is resolved here, as it
+-- depends on whether the game was won by an alignment or by an explicit list of players.
+CREATE VIEW counted_player_participations AS
+SELECT pp.id                   AS id,
+       pp.game_id              AS game_id,
+       pp.player_id            AS player_id,
+       pp.initial_character_id AS initial_character_id,
+       pp.end_character_id     AS end_character_id,
+       pp.end_alignment        AS end_alignment,
+       pp.is_alive_at_end      AS is_alive_at_end,
+       CASE
+           WHEN g.winning_alignment IS NOT NULL AND pp.end_alignment = g.winning_alignment THEN 1
+           WHEN g.winning_alignment IS NULL AND w.player_id IS NOT NULL THEN 1
+           ELSE 0
+           END                 AS won
+FROM player_participations pp
+         JOIN games g ON g.id = pp.game_id
+         LEFT JOIN game_winning_players w ON w.game_id = pp.game_id AND w.player_id = pp.player_id
+WHERE pp.player_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1
+                  FROM game_storytellers s
+                  WHERE s.game_id = pp.game_id
+                    AND s.player_id = pp.player_id);
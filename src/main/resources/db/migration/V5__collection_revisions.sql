@@ -0,0 +1,16 @@
+-- One revision counter per resource collection. Every transaction changing resources of a collection (directly or, for
+-- example, by deleting a resource they reference) increments its counter, so readers can detect that nothing changed
+-- without reading the collection itself.
+CREATE TABLE collection_revisions
+(
+    collection VARCHAR(255) NOT NULL,
+    revision   BIGINT       NOT NULL,
+    CONSTRAINT pk_collection_revisions PRIMARY KEY (collection)
+);
+
+INSERT INTO collection_revisions (collection, revision)
+VALUES ('GAMES', 0),
+       ('SCRIPTS', 0),
+       ('CHARACTERS', 0),
+       ('PLAYERS', 0),
+       ('USERS', 0);
@@ -0,0 +1,30 @@
+-- Indexes on the foreign key columns, which PostgreSQL does not create implicitly. They serve loading the associations
+-- of a game, the per-player and per-character lookups (filters and statistics), and the cascading updates and deletes
+-- when a referenced row is deleted. Indexes of join tables contain both columns, so lookups in either direction are
+-- answered from the index alone.
+
+-- participants of a game, in their order
+CREATE INDEX idx_player_participations_game ON player_participations (game_id, participant_order);
+
+-- games of a player
+CREATE INDEX idx_player_participations_player ON player_participations (player_id, game_id);
+
+CREATE INDEX idx_player_participations_initial_character ON player_participations (initial_character_id);
+
+CREATE INDEX idx_player_participations_end_character ON player_participations (end_character_id);
+
+CREATE INDEX idx_game_storytellers_game ON game_storytellers (game_id, player_id);
+
+CREATE INDEX idx_game_storytellers_player ON game_storytellers (player_id, game_id);
+
+CREATE INDEX idx_game_winning_players_game ON game_winning_players (game_id, player_id);
+
+CREATE INDEX idx_game_winning_players_player ON game_winning_players (player_id, game_id);
+
+CREATE INDEX idx_script_characters_script ON script_characters (script_id, character_id);
+
+CREATE INDEX idx_script_characters_character ON script_characters (character_id, script_id);
+
+CREATE INDEX idx_games_script ON games (script_id);
+
+CREATE INDEX idx_player_stats_characters_character ON player_stats_characters (character_id);
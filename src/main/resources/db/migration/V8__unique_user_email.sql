@@ -0,0 +1,5 @@
+-- Users are looked up by their email address when signing in and when authenticating every request. The constraint
+-- enforces the uniqueness the application already checks before creating and updating users, and its index serves
+-- these lookups.
+ALTER TABLE users
+    ADD CONSTRAINT uc_users_email UNIQUE (email);
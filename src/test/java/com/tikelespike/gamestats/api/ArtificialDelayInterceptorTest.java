@@ -0,0 +1,64 @@
+package com.tikelespike.gamestats.api;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtificialDelayInterceptorTest {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int CONCURRENT_REQUESTS = 100;
+    private static final long DELAY_MS = 50;
+
+    private ArtificialDelayInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ArtificialDelayInterceptor();
+        ReflectionTestUtils.setField(interceptor, "sleepBeforeMs", DELAY_MS);
+        ReflectionTestUtils.setField(interceptor, "sleepAfterMs", DELAY_MS);
+    }
+
+    @Test
+    void delayDoesNotPinVirtualThreads() throws Exception {
+        // Arrange
+        List<RecordedEvent> pinnedEvents = new CopyOnWriteArrayList<>();
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, pinnedEvents::add);
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                    results.add(executor.submit(() -> {
+                        boolean proceed = interceptor.preHandle(null, null, null);
+                        interceptor.postHandle(null, null, null, null);
+                        return proceed;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            }
+            // waits until all recorded events have been passed to the handler
+            recording.stop();
+        }
+
+        // Assert
+        assertTrue(pinnedEvents.isEmpty(), "Virtual threads were pinned while delaying: " + pinnedEvents);
+    }
+}
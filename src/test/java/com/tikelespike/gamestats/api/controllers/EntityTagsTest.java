@@ -0,0 +1,30 @@
+package com.tikelespike.gamestats.api.controllers;
+
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityTagsTest {
+
+    @Test
+    void testTagIsQuotedAndStable() {
+        String tag = EntityTags.ofRevision(ResourceCollection.GAMES, 3);
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+        assertEquals(tag, EntityTags.ofRevision(ResourceCollection.GAMES, 3));
+    }
+
+    @Test
+    void testTagChangesWithRevision() {
+        assertNotEquals(EntityTags.ofRevision(ResourceCollection.GAMES, 3),
+                EntityTags.ofRevision(ResourceCollection.GAMES, 4));
+    }
+
+    @Test
+    void testTagDiffersBetweenCollections() {
+        assertNotEquals(EntityTags.ofRevision(ResourceCollection.GAMES, 3),
+                EntityTags.ofRevision(ResourceCollection.PLAYERS, 3));
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains tests for the REST resources and endpoints.
+ */
+package com.tikelespike.gamestats.api.controllers;
@@ -0,0 +1,4 @@
+/**
+ * Contains tests for the REST API layer.
+ */
+package com.tikelespike.gamestats.api;
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -141,6 +142,75 @@ class GameTest {
         assertFalse(game.getWinningPlayers().contains(player2));
     }
 
+    @Test
+    void testWinnerLookupWithAlignment() {
+        Game game = new Game(1L, 1L, participants, script, Alignment.GOOD, "Test game", "Test game name",
+                List.of(player4));
+
+        assertEquals(Set.of(player1.getId(), player3.getId()), game.getWinningPlayerIds());
+        assertTrue(game.isWinner(player1.getId()));
+        assertFalse(game.isWinner(player2.getId()));
+        assertFalse(game.isWinner(player4.getId()));
+
+        game.setWinningAlignment(Alignment.EVIL);
+        assertEquals(Set.of(player2.getId()), game.getWinningPlayerIds());
+        assertEquals(List.of(player2), game.getWinningPlayers());
+    }
+
+    @Test
+    void testWinnerLookupUpdatedWithParticipants() {
+        Game game = new Game(1L, 1L, participants, script, Alignment.GOOD, "Test game", "Test game name",
+                List.of(player4));
+
+        game.setParticipants(List.of(
+                new PlayerParticipation(player2, character1, true),
+                new PlayerParticipation(player4, character2, false)
+        ));
+
+        assertEquals(List.of(player2), game.getWinningPlayers());
+        assertTrue(game.isWinner(player2.getId()));
+        assertFalse(game.isWinner(player1.getId()));
+    }
+
+    @Test
+    void testWinnerLookupWithWinningPlayers() {
+        Game game = new Game(1L, 1L, participants, script, "Test game", List.of(player2), "Test game name",
+                List.of(player4));
+
+        assertEquals(Set.of(player2.getId()), game.getWinningPlayerIds());
+        assertTrue(game.isWinner(player2.getId()));
+        assertFalse(game.isWinner(player1.getId()));
+        assertThrows(UnsupportedOperationException.class, () -> game.getWinningPlayerIds().add(player1.getId()));
+    }
+
+    @Test
+    void testGetParticipation() {
+        Game game = new Game(1L, 1L, participants, script, Alignment.GOOD, "Test game", "Test game name",
+                List.of(player4));
+
+        assertEquals(participants.get(1), game.getParticipation(player2.getId()));
+        assertNull(game.getParticipation(player4.getId()));
+
+        PlayerParticipation newParticipation = new PlayerParticipation(player4, character1, false);
+        game.setParticipants(List.of(newParticipation));
+        assertEquals(newParticipation, game.getParticipation(player4.getId()));
+        assertNull(game.getParticipation(player2.getId()));
+    }
+
+    @Test
+    void testReadViews() {
+        Game game = new Game(1L, 1L, participants, script, Alignment.GOOD, "Test game", "Test game name",
+                List.of(player4));
+
+        assertEquals(game.getParticipants(), game.getParticipantsView());
+        assertEquals(game.getStorytellers(), game.getStorytellersView());
+        assertThrows(UnsupportedOperationException.class, () -> game.getParticipantsView().clear());
+        assertThrows(UnsupportedOperationException.class, () -> game.getStorytellersView().add(player1));
+
+        game.setStorytellers(List.of(player1, player4));
+        assertEquals(List.of(player1, player4), game.getStorytellersView());
+    }
+
     @Test
     void testParticipationWithNullPlayer() {
         List<PlayerParticipation> participationsWithNullPlayer = Arrays.asList(
@@ -0,0 +1,123 @@
+package com.tikelespike.gamestats.businesslogic.entities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerStatsAggregatorTest {
+    private Player player1;
+    private Player player2;
+    private Player player3;
+    private Character townsfolkCharacter;
+    private Character minionCharacter;
+    private Script script;
+    private PlayerStatsAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        player1 = new Player(1L, 0L, "TestPlayer1", null);
+        player2 = new Player(2L, 0L, "TestPlayer2", null);
+        player3 = new Player(3L, 0L, "TestPlayer3", null);
+
+        townsfolkCharacter = new Character(1L, 0L, "Townsfolk", CharacterType.TOWNSFOLK);
+        minionCharacter = new Character(2L, 0L, "Minion", CharacterType.MINION);
+
+        script = new Script(1L, 0L, "http://test", "Test Script", "Test Description", Set.of(townsfolkCharacter,
+                minionCharacter));
+
+        aggregator = new PlayerStatsAggregator();
+    }
+
+    @Test
+    void addGamesMatchesPerPlayerStats() {
+        // Arrange
+        Game game1 = new Game(1L, 0L, List.of(
+                new PlayerParticipation(player1, townsfolkCharacter, true),
+                new PlayerParticipation(player2, minionCharacter, false)
+        ), script, Alignment.GOOD, "Test game 1", "Test game name 1", List.of(player3));
+        Game game2 = new Game(2L, 0L, List.of(
+                new PlayerParticipation(player1, townsfolkCharacter, Alignment.GOOD, minionCharacter,
+                        Alignment.EVIL, false),
+                new PlayerParticipation(player3, townsfolkCharacter, true)
+        ), script, Alignment.EVIL, "Test game 2", "Test game name 2", List.of(player2));
+        Game game3 = new Game(3L, 0L, List.of(
+                new PlayerParticipation(player2, townsfolkCharacter, true),
+                new PlayerParticipation(null, minionCharacter, true)
+        ), script, "Test game 3", List.of(player1, player2), "Test game name 3", List.of());
+        List<Game> games = List.of(game1, game2, game3);
+
+        // Act
+        aggregator.addGames(games);
+
+        // Assert
+        for (Player player : List.of(player1, player2, player3)) {
+            PlayerStats expected = new PlayerStats(player);
+            games.forEach(expected::addGame);
+            assertEquals(expected, aggregator.getStatistics(player));
+        }
+    }
+
+    @Test
+    void addGameStorytellerParticipatingCountsOnlyAsStoryteller() {
+        // Arrange
+        Game game = new Game(1L, 0L, List.of(new PlayerParticipation(player1, townsfolkCharacter, true)), script,
+                Alignment.GOOD, "Test game", "Test game name", List.of(player1));
+
+        // Act
+        aggregator.addGame(game);
+
+        // Assert
+        PlayerStats stats = aggregator.getStatistics(player1);
+        assertEquals(1, stats.totalGamesPlayed());
+        assertEquals(1, stats.timesStoryteller());
+        assertEquals(0, stats.totalWins());
+        assertTrue(stats.characterPlayingCounts().isEmpty());
+    }
+
+    @Test
+    void getStatisticsOfUninvolvedPlayerIsEmpty() {
+        // Arrange
+        Game game = new Game(1L, 0L, List.of(new PlayerParticipation(player1, townsfolkCharacter, true)), script,
+                Alignment.GOOD, "Test game", "Test game name", List.of());
+
+        // Act
+        aggregator.addGame(game);
+
+        // Assert
+        assertEquals(new PlayerStats(player2), aggregator.getStatistics(player2));
+        assertEquals(1, aggregator.getAllStatistics().size());
+    }
+
+    @Test
+    void aggregateInParallelMatchesSequentialAggregation() {
+        // Arrange
+        List<Game> games = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            Player storyteller = i % 3 == 0 ? player3 : player2;
+            games.add(new Game(i, 0L, List.of(
+                    new PlayerParticipation(player1, i % 2 == 0 ? townsfolkCharacter : minionCharacter, i % 5 != 0),
+                    new PlayerParticipation(i % 3 == 0 ? player2 : player3, townsfolkCharacter, true)
+            ), script, i % 2 == 0 ? Alignment.GOOD : Alignment.EVIL, "Test game", "Test game name",
+                    List.of(storyteller)));
+        }
+        aggregator.addGames(games);
+
+        // Act
+        PlayerStatsAggregator parallelAggregator;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            parallelAggregator = PlayerStatsAggregator.aggregateInParallel(games, pool);
+        }
+
+        // Assert
+        for (Player player : List.of(player1, player2, player3)) {
+            assertEquals(aggregator.getStatistics(player), parallelAggregator.getStatistics(player));
+        }
+    }
+}
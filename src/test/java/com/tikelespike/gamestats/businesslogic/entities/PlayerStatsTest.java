@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class PlayerStatsTest {
     private Player player;
@@ -146,4 +147,38 @@ class PlayerStatsTest {
         assertEquals(1, playingCounts.get(townsfolkCharacter));
         assertEquals(1, playingCounts.get(minionCharacter));
     }
+
+    @Test
+    void mergeEqualsAddingAllGames() {
+        // Arrange
+        PlayerParticipation participation1 = new PlayerParticipation(player, townsfolkCharacter, true);
+        Game game1 = new Game(1L, 0L, java.util.List.of(participation1), script, Alignment.GOOD,
+                "Test game 1", "Test game name 1", java.util.List.of());
+
+        PlayerParticipation participation2 = new PlayerParticipation(player, minionCharacter, false);
+        Game game2 = new Game(2L, 0L, java.util.List.of(participation2), script, Alignment.GOOD,
+                "Test game 2", "Test game name 2", java.util.List.of());
+
+        PlayerStats otherStats = new PlayerStats(player);
+        PlayerStats expectedStats = new PlayerStats(player);
+        expectedStats.addGame(game1);
+        expectedStats.addGame(game2);
+
+        // Act
+        playerStats.addGame(game1);
+        otherStats.addGame(game2);
+        playerStats.merge(otherStats);
+
+        // Assert
+        assertEquals(expectedStats, playerStats);
+    }
+
+    @Test
+    void mergeWithDifferentPlayerFails() {
+        // Arrange
+        PlayerStats otherStats = new PlayerStats(new Player(2L, 0L, "OtherPlayer", null));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> playerStats.merge(otherStats));
+    }
 }
@@ -28,6 +28,20 @@ class ScriptTest {
         assertTrue(script.getCharacters().contains(testCharacter));
     }
 
+    @Test
+    void testCharactersView() {
+        Character testCharacter = new Character(0L, 0L, "name", CharacterType.TOWNSFOLK);
+        Character otherCharacter = new Character(1L, 0L, "other", CharacterType.DEMON);
+        Script script = new Script(1L, 0L, "link", "name", "description",
+                Set.of(testCharacter));
+
+        assertEquals(script.getCharacters(), script.getCharactersView());
+        assertThrows(UnsupportedOperationException.class, () -> script.getCharactersView().add(otherCharacter));
+
+        script.setCharacters(Set.of(otherCharacter));
+        assertEquals(Set.of(otherCharacter), script.getCharactersView());
+    }
+
     @Test
     void testCreateMissingName() {
         Character testCharacter = new Character(0L, 0L, "name", CharacterType.TOWNSFOLK);
@@ -0,0 +1,166 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.businesslogic.entities.AuthenticatedUser;
+import com.tikelespike.gamestats.businesslogic.entities.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AuthenticatedUserCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final MutableClock clock = new MutableClock();
+    private final List<String> loadedUsernames = new ArrayList<>();
+
+    @Test
+    void testGetCached() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 10, clock);
+        AuthenticatedUser first = cache.get("a", this::load);
+        clock.advance(TTL.minusSeconds(1));
+
+        // Execute
+        AuthenticatedUser second = cache.get("a", this::load);
+
+        // Verify
+        assertSame(first, second);
+        assertEquals(List.of("a"), loadedUsernames);
+    }
+
+    @Test
+    void testGetExpired() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 10, clock);
+        AuthenticatedUser first = cache.get("a", this::load);
+        clock.advance(TTL);
+
+        // Execute
+        AuthenticatedUser second = cache.get("a", this::load);
+
+        // Verify
+        assertEquals(first.getId(), second.getId());
+        assertEquals(List.of("a", "a"), loadedUsernames);
+    }
+
+    @Test
+    void testGetFullEvictsLeastRecentlyUsed() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 2, clock);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+
+        // Execute
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        // Verify
+        assertEquals(List.of("a", "b", "c", "b"), loadedUsernames);
+    }
+
+    @Test
+    void testGetMaxSizeZero() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 0, clock);
+        cache.get("a", this::load);
+
+        // Execute
+        cache.get("a", this::load);
+
+        // Verify
+        assertEquals(List.of("a", "a"), loadedUsernames);
+    }
+
+    @Test
+    void testGetNonExistent() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 10, clock);
+        Function<String, AuthenticatedUser> loader = username -> {
+            loadedUsernames.add(username);
+            return null;
+        };
+        cache.get("a", loader);
+
+        // Execute
+        AuthenticatedUser user = cache.get("a", loader);
+
+        // Verify
+        assertNull(user);
+        assertEquals(List.of("a", "a"), loadedUsernames);
+    }
+
+    @Test
+    void testEvict() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 10, clock);
+        AuthenticatedUser user = cache.get("a", this::load);
+        cache.get("b", this::load);
+
+        // Execute
+        cache.evict(user.getId());
+
+        // Verify
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        assertEquals(List.of("a", "b", "a"), loadedUsernames);
+    }
+
+    @Test
+    void testGetEvictedWhileLoading() {
+        // Setup
+        AuthenticatedUserCache cache = new AuthenticatedUserCache(TTL, 10, clock);
+        cache.get("a", username -> {
+            AuthenticatedUser user = load(username);
+            cache.evict(user.getId());
+            return user;
+        });
+
+        // Execute
+        cache.get("a", this::load);
+
+        // Verify
+        assertEquals(List.of("a", "a"), loadedUsernames);
+    }
+
+    private AuthenticatedUser load(String username) {
+        loadedUsernames.add(username);
+        return new AuthenticatedUser(username.charAt(0), username + "@example.com", UserRole.USER);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -73,6 +73,23 @@ class CharacterServiceTest {
         assertEquals(updatedCharacter, characterService.getCharacter(updatedCharacter.getId()));
     }
 
+    @Test
+    void testUpdateCharacterAfterCatalogueLoaded() throws StaleDataException {
+        Character character = addTestCharacter("testUpdateCharacterAfterCatalogueLoaded");
+        characterService.getAllCharacters();
+
+        Character loadedCharacter = characterService.getCharacter(character.getId());
+        loadedCharacter.setName("testUpdateCharacterAfterCatalogueLoaded_name_updated");
+        loadedCharacter.setCharacterType(CharacterType.MINION);
+        Character updatedCharacter = characterService.updateCharacter(loadedCharacter);
+
+        Character retrievedCharacter = characterService.getCharacter(character.getId());
+        assertEquals("testUpdateCharacterAfterCatalogueLoaded_name_updated", retrievedCharacter.getName());
+        assertEquals(CharacterType.MINION, retrievedCharacter.getCharacterType());
+        assertEquals(updatedCharacter.getVersion(), retrievedCharacter.getVersion());
+        assertTrue(updatedCharacter.getVersion() > character.getVersion());
+    }
+
     @Test
     void testUpdateCharacterNull() {
         assertThrows(NullPointerException.class, () -> characterService.updateCharacter(null));
@@ -115,6 +132,16 @@ class CharacterServiceTest {
         assertEquals(character, retrievedCharacter);
     }
 
+    @Test
+    void testGetCharacterNotAffectedByUnsavedChanges() {
+        Character character = addTestCharacter("testGetCharacterNotAffectedByUnsavedChanges");
+        Character retrievedCharacter = characterService.getCharacter(character.getId());
+
+        retrievedCharacter.setName("testGetCharacterNotAffectedByUnsavedChanges_unsaved");
+
+        assertEquals(character, characterService.getCharacter(character.getId()));
+    }
+
     @Test
     void testGetCharacterNonExisting() {
         Character retrievedCharacter = characterService.getCharacter(NON_EXISTENT_ID);
@@ -122,6 +149,25 @@ class CharacterServiceTest {
         assertNull(retrievedCharacter);
     }
 
+    @Test
+    void testGetCharactersByIds() {
+        Character character1 = addTestCharacter("testGetCharactersByIds_1");
+        Character character2 = addTestCharacter("testGetCharactersByIds_2");
+
+        List<Character> retrievedCharacters =
+                characterService.getCharactersByIds(List.of(character2.getId(), character1.getId()));
+
+        assertEquals(List.of(character2, character1), retrievedCharacters);
+    }
+
+    @Test
+    void testGetCharactersByIdsNonExisting() {
+        Character character = addTestCharacter("testGetCharactersByIdsNonExisting");
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> characterService.getCharactersByIds(List.of(character.getId(), NON_EXISTENT_ID)));
+    }
+
 
     @Test
     void testDeleteCharacter() {
@@ -132,6 +178,16 @@ class CharacterServiceTest {
         assertFalse(characterService.getAllCharacters().contains(character));
     }
 
+    @Test
+    void testGetCharacterAfterDeleteCharacter() {
+        Character character = addTestCharacter("testGetCharacterAfterDeleteCharacter");
+        characterService.getCharacter(character.getId());
+
+        characterService.deleteCharacter(character.getId());
+
+        assertNull(characterService.getCharacter(character.getId()));
+    }
+
     @Test
     void testCreateCharacters() {
         List<CharacterCreationRequest> requests = List.of(
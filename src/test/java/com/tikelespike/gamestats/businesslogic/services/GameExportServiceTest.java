@@ -0,0 +1,134 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.GamestatsApplication;
+import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGame;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedParticipation;
+import com.tikelespike.gamestats.businesslogic.entities.Game;
+import com.tikelespike.gamestats.businesslogic.entities.GameCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
+import com.tikelespike.gamestats.businesslogic.entities.Script;
+import com.tikelespike.gamestats.businesslogic.entities.ScriptCreationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GamestatsApplication.class)
+class GameExportServiceTest {
+
+    @Autowired
+    private GameExportService exportService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private ScriptService scriptService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Test
+    void testExportGames() {
+        // Setup
+        Script script = addTestScript("testExportGames");
+        Character character = addTestCharacter("testExportGames");
+        Player good = addTestPlayer("testExportGames_good");
+        Player evil = addTestPlayer("testExportGames_evil");
+        Player storyteller = addTestPlayer("testExportGames_storyteller");
+
+        List<PlayerParticipation> participations = List.of(
+                new PlayerParticipation(good, character, true),
+                new PlayerParticipation(evil, character, Alignment.EVIL, character, Alignment.EVIL, false)
+        );
+        Game wonByAlignment = gameService.createGame(new GameCreationRequest(script, participations, Alignment.GOOD,
+                null, null, "testExportGames_alignment", List.of(storyteller)));
+        Game wonByPlayers = gameService.createGame(new GameCreationRequest(script, participations, null,
+                "description", List.of(evil), "testExportGames_players", List.of()));
+
+        // Execute
+        Map<Long, ExportedGame> exportedGames = new HashMap<>();
+        List<Long> exportedIds = new ArrayList<>();
+        exportService.exportGames(game -> {
+            exportedGames.put(game.id(), game);
+            exportedIds.add(game.id());
+        });
+
+        // Verify
+        for (int i = 1; i < exportedIds.size(); i++) {
+            assertTrue(exportedIds.get(i - 1) < exportedIds.get(i));
+        }
+
+        ExportedGame exportedAlignmentGame = exportedGames.get(wonByAlignment.getId());
+        assertNotNull(exportedAlignmentGame);
+        assertEquals("testExportGames_alignment", exportedAlignmentGame.name());
+        assertEquals(script.getId(), exportedAlignmentGame.scriptId());
+        assertEquals(Alignment.GOOD, exportedAlignmentGame.winningAlignment());
+        assertEquals(List.of(storyteller.getId()), exportedAlignmentGame.storytellerIds());
+        assertEquals(List.of(good.getId()), exportedAlignmentGame.winningPlayerIds());
+        assertEquals(List.of(
+                new ExportedParticipation(good.getId(), character.getId(), Alignment.GOOD, character.getId(),
+                        Alignment.GOOD, true),
+                new ExportedParticipation(evil.getId(), character.getId(), Alignment.EVIL, character.getId(),
+                        Alignment.EVIL, false)
+        ), exportedAlignmentGame.participants());
+
+        ExportedGame exportedPlayerGame = exportedGames.get(wonByPlayers.getId());
+        assertNotNull(exportedPlayerGame);
+        assertEquals("description", exportedPlayerGame.description());
+        assertNull(exportedPlayerGame.winningAlignment());
+        assertEquals(List.of(), exportedPlayerGame.storytellerIds());
+        assertEquals(List.of(evil.getId()), exportedPlayerGame.winningPlayerIds());
+        assertEquals(2, exportedPlayerGame.participants().size());
+    }
+
+    @Test
+    void testExportGamesNullConsumer() {
+        assertThrows(NullPointerException.class, () -> exportService.exportGames(null));
+    }
+
+    private Script addTestScript(String testName) {
+        Character character = addTestCharacter(testName + "_script");
+        ScriptCreationRequest request = new ScriptCreationRequest(
+                testName + "_name",
+                testName + "_description",
+                "http://" + testName,
+                Set.of(character)
+        );
+        return scriptService.createScript(request);
+    }
+
+    private Character addTestCharacter(String testName) {
+        CharacterCreationRequest request = new CharacterCreationRequest(
+                testName + "_id",
+                testName + "_name",
+                CharacterType.TOWNSFOLK,
+                "http://" + testName,
+                "http://" + testName + "/image"
+        );
+        return characterService.createCharacter(request);
+    }
+
+    private Player addTestPlayer(String testName) {
+        return playerService.createPlayer(testName + "_name");
+    }
+}
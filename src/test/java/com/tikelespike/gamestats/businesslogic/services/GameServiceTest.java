@@ -5,8 +5,12 @@ import com.tikelespike.gamestats.businesslogic.entities.Alignment;
 import com.tikelespike.gamestats.businesslogic.entities.Character;
 import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
 import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGame;
+import com.tikelespike.gamestats.businesslogic.entities.ExportedGamePage;
 import com.tikelespike.gamestats.businesslogic.entities.Game;
 import com.tikelespike.gamestats.businesslogic.entities.GameCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.GameFilter;
+import com.tikelespike.gamestats.businesslogic.entities.GameImportResult;
 import com.tikelespike.gamestats.businesslogic.entities.Player;
 import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
 import com.tikelespike.gamestats.businesslogic.entities.Script;
@@ -18,11 +22,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -231,6 +238,52 @@ class GameServiceTest {
         assertEquals(game, retrievedGame);
     }
 
+    @Test
+    void testCreateGames() {
+        // Setup
+        Script script = addTestScript("testCreateGames");
+        Player player = addTestPlayer("testCreateGames");
+        Player nonExistentPlayer = new Player(NON_EXISTENT_ID, 1L, "Non-existent", null);
+        Character character = addTestCharacter("testCreateGames");
+
+        GameCreationRequest validRequest = new GameCreationRequest(
+                script,
+                List.of(new PlayerParticipation(player, character, true)),
+                Alignment.GOOD,
+                null,
+                null,
+                "Valid game",
+                List.of()
+        );
+        GameCreationRequest invalidRequest = new GameCreationRequest(
+                script,
+                List.of(new PlayerParticipation(nonExistentPlayer, character, true)),
+                Alignment.GOOD,
+                null,
+                null,
+                "Invalid game",
+                List.of()
+        );
+
+        // Execute
+        List<GameImportResult> results = gameService.createGames(List.of(validRequest, invalidRequest, validRequest));
+
+        // Verify
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertEquals("Valid game", results.get(0).game().getName());
+        assertNotNull(gameService.getGame(results.get(0).game().getId()));
+        assertFalse(results.get(1).isCreated());
+        assertNotNull(results.get(1).error());
+        assertTrue(results.get(2).isCreated());
+        assertNotEquals(results.get(0).game().getId(), results.get(2).game().getId());
+    }
+
+    @Test
+    void testCreateGamesNullRequests() {
+        assertThrows(NullPointerException.class, () -> gameService.createGames(null));
+    }
+
     @Test
     void testGetGameNonExistent() {
         Game retrievedGame = gameService.getGame(NON_EXISTENT_ID);
@@ -238,16 +291,84 @@ class GameServiceTest {
     }
 
     @Test
-    void testGetAllGames() {
+    void testForEachExportedGameContainsCreatedGame() {
+        // Setup
+        Game game = addTestGame("testForEachExportedGameContainsCreatedGame");
+        List<Long> gameIds = new ArrayList<>();
+
+        // Execute
+        gameService.forEachExportedGame(GameFilter.none(), null, exportedGame -> gameIds.add(exportedGame.id()));
+
+        // Verify
+        assertTrue(gameIds.contains(game.getId()));
+    }
+
+    @Test
+    void testGetExportedGames() {
         // Setup
-        Game game = addTestGame("testGetAllGames");
+        Game game1 = addTestGame("testGetExportedGames_1");
+        Game game2 = addTestGame("testGetExportedGames_2");
+        Game game3 = addTestGame("testGetExportedGames_3");
 
         // Execute
-        List<Game> games = gameService.getAllGames();
+        ExportedGamePage firstPage = gameService.getExportedGames(GameFilter.none(), game1.getId() - 1, 2);
+        ExportedGamePage secondPage = gameService.getExportedGames(GameFilter.none(), firstPage.nextCursor(), 2);
 
         // Verify
-        assertNotNull(games);
-        assertTrue(games.contains(game));
+        assertEquals(List.of(game1.getId(), game2.getId()), firstPage.games().stream().map(ExportedGame::id).toList());
+        assertEquals(game2.getId(), firstPage.nextCursor());
+        assertEquals(List.of(game3.getId()), secondPage.games().stream().map(ExportedGame::id).toList());
+        assertNull(secondPage.nextCursor());
+
+        ExportedGame exportedGame = firstPage.games().getFirst();
+        assertEquals(game1.getName(), exportedGame.name());
+        assertEquals(game1.getScript().getId(), exportedGame.scriptId());
+        assertEquals(game1.getWinningAlignment(), exportedGame.winningAlignment());
+        assertEquals(game1.getWinningPlayers().stream().map(Player::getId).toList(), exportedGame.winningPlayerIds());
+        assertEquals(game1.getParticipants().size(), exportedGame.participants().size());
+    }
+
+    @Test
+    void testGetExportedGamesFiltered() {
+        // Setup
+        Game game = addTestGame("testGetExportedGamesFiltered");
+        addTestGame("testGetExportedGamesFiltered_other");
+        Player player = game.getParticipants().getFirst().getPlayer();
+
+        // Execute
+        ExportedGamePage byPlayer =
+                gameService.getExportedGames(new GameFilter(null, player.getId(), null), null, null);
+        ExportedGamePage byScript =
+                gameService.getExportedGames(new GameFilter(game.getScript().getId(), null, null), null, null);
+        ExportedGamePage byPlayerAndAlignment =
+                gameService.getExportedGames(new GameFilter(null, player.getId(), Alignment.EVIL), null, null);
+
+        // Verify
+        assertEquals(List.of(game.getId()), byPlayer.games().stream().map(ExportedGame::id).toList());
+        assertEquals(List.of(game.getId()), byScript.games().stream().map(ExportedGame::id).toList());
+        assertTrue(byPlayerAndAlignment.games().isEmpty());
+        assertNull(byPlayerAndAlignment.nextCursor());
+    }
+
+    @Test
+    void testForEachExportedGame() {
+        // Setup
+        Game game1 = addTestGame("testForEachExportedGame_1");
+        Game game2 = addTestGame("testForEachExportedGame_2");
+        List<ExportedGame> games = new ArrayList<>();
+
+        // Execute
+        gameService.forEachExportedGame(GameFilter.none(), game1.getId() - 1, games::add);
+
+        // Verify
+        assertEquals(List.of(game1.getId(), game2.getId()),
+                games.subList(0, 2).stream().map(ExportedGame::id).toList());
+        assertEquals(gameService.getExportedGames(GameFilter.none(), game1.getId() - 1, null).games(), games);
+    }
+
+    @Test
+    void testGetExportedGamesInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> gameService.getExportedGames(GameFilter.none(), null, 0));
     }
 
     @Test
@@ -536,6 +657,16 @@ class GameServiceTest {
         assertEquals(newStoryteller, updatedGame.getStorytellers().getFirst());
     }
 
+    @Test
+    void testUpdateGameWithNonExistentStoryteller() {
+        // Setup
+        Game game = addTestGame("testUpdateGameWithNonExistentStoryteller");
+        game.setStorytellers(List.of(new Player(NON_EXISTENT_ID, 1L, "Non-existent", null)));
+
+        // Execute & Verify
+        assertThrows(RelatedResourceNotFoundException.class, () -> gameService.updateGame(game));
+    }
+
     private Game addTestGame(String testName) {
         Script script = addTestScript(testName);
         Player player = addTestPlayer(testName);
@@ -51,6 +51,17 @@ class PlayerServiceTest {
         assertEquals(testUser.getName(), createdPlayer.getName());
     }
 
+    @Test
+    void testGetExistingPlayers() {
+        Player player1 = playerService.createPlayer("testGetExistingPlayers_1");
+        Player player2 = playerService.createPlayer("testGetExistingPlayers_2");
+
+        List<Player> players = playerService.getExistingPlayers(List.of(player1.getId(), player2.getId(), TEST_ID_1));
+
+        assertEquals(2, players.size());
+        assertTrue(players.containsAll(List.of(player1, player2)));
+    }
+
     @Test
     void testCreateUnassignedNullName() {
         assertThrows(NullPointerException.class, () -> playerService.createPlayer((String) null));
@@ -0,0 +1,105 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.GamestatsApplication;
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
+import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.entities.ResourceCollection;
+import com.tikelespike.gamestats.businesslogic.entities.Script;
+import com.tikelespike.gamestats.businesslogic.entities.ScriptCreationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.IllegalTransactionStateException;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = GamestatsApplication.class)
+class RevisionServiceTest {
+
+    @Autowired
+    private RevisionService revisionService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private ScriptService scriptService;
+
+    @Test
+    void testCreatePlayerIncrementsPlayerRevision() {
+        long playerRevision = revisionService.getRevision(ResourceCollection.PLAYERS);
+        long gameRevision = revisionService.getRevision(ResourceCollection.GAMES);
+
+        playerService.createPlayer("testCreatePlayerIncrementsPlayerRevision");
+
+        assertEquals(playerRevision + 1, revisionService.getRevision(ResourceCollection.PLAYERS));
+        assertEquals(gameRevision, revisionService.getRevision(ResourceCollection.GAMES));
+    }
+
+    @Test
+    void testDeleteCharacterIncrementsReferencingRevisions() {
+        Character character = characterService.createCharacter(new CharacterCreationRequest(
+                "testDeleteCharacterIncrementsReferencingRevisions_id",
+                "testDeleteCharacterIncrementsReferencingRevisions_name", CharacterType.TOWNSFOLK, null, null));
+        long characterRevision = revisionService.getRevision(ResourceCollection.CHARACTERS);
+        long scriptRevision = revisionService.getRevision(ResourceCollection.SCRIPTS);
+        long gameRevision = revisionService.getRevision(ResourceCollection.GAMES);
+
+        characterService.deleteCharacter(character.getId());
+
+        assertEquals(characterRevision + 1, revisionService.getRevision(ResourceCollection.CHARACTERS));
+        assertEquals(scriptRevision + 1, revisionService.getRevision(ResourceCollection.SCRIPTS));
+        assertEquals(gameRevision + 1, revisionService.getRevision(ResourceCollection.GAMES));
+    }
+
+    @Test
+    void testDeleteScriptIncrementsGameRevision() {
+        Script script = scriptService.createScript(new ScriptCreationRequest(
+                "testDeleteScriptIncrementsGameRevision_name", "testDeleteScriptIncrementsGameRevision_description",
+                "http://testDeleteScriptIncrementsGameRevision", Set.of()));
+        long scriptRevision = revisionService.getRevision(ResourceCollection.SCRIPTS);
+        long gameRevision = revisionService.getRevision(ResourceCollection.GAMES);
+
+        scriptService.deleteScript(script.getId());
+
+        assertEquals(scriptRevision + 1, revisionService.getRevision(ResourceCollection.SCRIPTS));
+        assertEquals(gameRevision + 1, revisionService.getRevision(ResourceCollection.GAMES));
+    }
+
+    @Test
+    void testDeletePlayerIncrementsReferencingRevisions() {
+        Player player = playerService.createPlayer("testDeletePlayerIncrementsReferencingRevisions");
+        long playerRevision = revisionService.getRevision(ResourceCollection.PLAYERS);
+        long userRevision = revisionService.getRevision(ResourceCollection.USERS);
+        long gameRevision = revisionService.getRevision(ResourceCollection.GAMES);
+
+        playerService.deletePlayer(player.getId());
+
+        assertEquals(playerRevision + 1, revisionService.getRevision(ResourceCollection.PLAYERS));
+        assertEquals(userRevision + 1, revisionService.getRevision(ResourceCollection.USERS));
+        assertEquals(gameRevision + 1, revisionService.getRevision(ResourceCollection.GAMES));
+    }
+
+    @Test
+    void testFailedChangeDoesNotIncrementRevision() {
+        long playerRevision = revisionService.getRevision(ResourceCollection.PLAYERS);
+
+        assertThrows(IllegalArgumentException.class, () -> playerService.createPlayer("   "));
+
+        assertEquals(playerRevision, revisionService.getRevision(ResourceCollection.PLAYERS));
+    }
+
+    @Test
+    void testRecordChangeOutsideTransaction() {
+        assertThrows(IllegalTransactionStateException.class,
+                () -> revisionService.recordChange(ResourceCollection.GAMES));
+    }
+}
@@ -15,10 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -118,6 +120,25 @@ class ScriptServiceTest {
         assertEquals("updatedWikiPage", updatedScript.getWikiPageLink());
     }
 
+    @Test
+    void testUpdateScriptAfterCatalogueLoaded() throws StaleDataException {
+        Script script = addTestScript("testUpdateScriptAfterCatalogueLoaded");
+        Character character = characterService.createCharacter(new CharacterCreationRequest(
+                "testUpdateScriptAfterCatalogueLoaded_id", "testUpdateScriptAfterCatalogueLoaded_name",
+                CharacterType.TOWNSFOLK, null, null));
+        scriptService.getAllScripts();
+
+        Set<Character> characters = new HashSet<>(testCharacters);
+        characters.add(character);
+        script.setName("testUpdateScriptAfterCatalogueLoaded_updated");
+        script.setCharacters(characters);
+        scriptService.updateScript(script);
+
+        assertEquals("testUpdateScriptAfterCatalogueLoaded_updated", scriptService.getScript(script.getId()).getName());
+        assertEquals(List.of(script.getId()), scriptService.getScriptsContainingCharacters(List.of(character.getId()))
+                .stream().map(Script::getId).toList());
+    }
+
     @Test
     void testUpdateScriptNull() {
         assertThrows(NullPointerException.class, () -> scriptService.updateScript(null));
@@ -162,6 +183,46 @@ class ScriptServiceTest {
         assertNull(scriptService.getScript(script.getId()));
     }
 
+    @Test
+    void testGetScriptsContainingCharacters() {
+        Script script = addTestScript("testGetScriptsContainingCharacters");
+        List<Long> characterIds = testCharacters.stream().map(Character::getId).toList();
+
+        List<Script> scripts = scriptService.getScriptsContainingCharacters(characterIds);
+
+        assertTrue(scripts.contains(script));
+        assertTrue(scripts.stream().allMatch(s -> s.getCharacters().containsAll(testCharacters)));
+        assertTrue(scriptService.getScriptsContainingCharacters(List.of(NON_EXISTENT_ID)).isEmpty());
+    }
+
+    @Test
+    void testScriptContainsCharacter() {
+        Script script = addTestScript("testScriptContainsCharacter");
+        Character character = testCharacters.iterator().next();
+
+        assertTrue(scriptService.scriptContainsCharacter(script.getId(), character.getId()));
+        assertFalse(scriptService.scriptContainsCharacter(script.getId(), NON_EXISTENT_ID));
+        assertFalse(scriptService.scriptContainsCharacter(NON_EXISTENT_ID, character.getId()));
+    }
+
+    @Test
+    void testGetScriptAfterCharacterUpdate() throws StaleDataException {
+        Script script = addTestScript("testGetScriptAfterCharacterUpdate");
+        CharacterCreationRequest characterRequest = new CharacterCreationRequest(
+                "testGetScriptAfterCharacterUpdate_id", "testGetScriptAfterCharacterUpdate_name",
+                CharacterType.TOWNSFOLK, null, null);
+        Character character = characterService.createCharacter(characterRequest);
+        Set<Character> characters = new HashSet<>(testCharacters);
+        characters.add(character);
+        script.setCharacters(characters);
+        scriptService.updateScript(script);
+
+        character.setName("testGetScriptAfterCharacterUpdate_updated");
+        Character updatedCharacter = characterService.updateCharacter(character);
+
+        assertTrue(scriptService.getScript(script.getId()).getCharacters().contains(updatedCharacter));
+    }
+
     private Script addTestScript(String identifier) {
         ScriptCreationRequest request = new ScriptCreationRequest(identifier + "_name",
                 identifier + "testUpdateScript_description", identifier + "testUpdateScript_wikiPage", testCharacters);
@@ -0,0 +1,328 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.GamestatsApplication;
+import com.tikelespike.gamestats.businesslogic.entities.Alignment;
+import com.tikelespike.gamestats.businesslogic.entities.Character;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.CharacterType;
+import com.tikelespike.gamestats.businesslogic.entities.Game;
+import com.tikelespike.gamestats.businesslogic.entities.GameCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.GameFilter;
+import com.tikelespike.gamestats.businesslogic.entities.Player;
+import com.tikelespike.gamestats.businesslogic.entities.PlayerParticipation;
+import com.tikelespike.gamestats.businesslogic.entities.PlayerStats;
+import com.tikelespike.gamestats.businesslogic.entities.Script;
+import com.tikelespike.gamestats.businesslogic.entities.ScriptCreationRequest;
+import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = GamestatsApplication.class)
+class StatServiceTest {
+
+    private static final long NON_EXISTENT_ID = 12345L;
+    private static final int CONCURRENT_GAMES = 4;
+
+    @Autowired
+    private StatService statService;
+
+    @Autowired
+    private GameService gameService;
+
+    @Autowired
+    private CharacterService characterService;
+
+    @Autowired
+    private ScriptService scriptService;
+
+    @Autowired
+    private PlayerService playerService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testStatisticsAfterCreateGame() {
+        // Setup
+        Player player = addTestPlayer("testStatisticsAfterCreateGame");
+        Player storyteller = addTestPlayer("testStatisticsAfterCreateGame_storyteller");
+        Character character = addTestCharacter("testStatisticsAfterCreateGame");
+
+        // Execute
+        addTestGame("testStatisticsAfterCreateGame", player, character, storyteller);
+
+        // Verify
+        PlayerStats playerStats = getStoredStatistics(player);
+        assertEquals(1, playerStats.totalGamesPlayed());
+        assertEquals(1, playerStats.totalWins());
+        assertEquals(0, playerStats.timesDeadAtEnd());
+        assertEquals(1, playerStats.timesGood());
+        assertEquals(Map.of(CharacterType.TOWNSFOLK, 1), playerStats.characterTypeCounts());
+        assertEquals(Map.of(character, 1), playerStats.characterPlayingCounts());
+        assertEquals(1, getStoredStatistics(storyteller).timesStoryteller());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testStatisticsAfterUpdateGame() throws StaleDataException {
+        // Setup
+        Player player = addTestPlayer("testStatisticsAfterUpdateGame");
+        Player storyteller = addTestPlayer("testStatisticsAfterUpdateGame_storyteller");
+        Player newStoryteller = addTestPlayer("testStatisticsAfterUpdateGame_newStoryteller");
+        Character character = addTestCharacter("testStatisticsAfterUpdateGame");
+        Game game = addTestGame("testStatisticsAfterUpdateGame", player, character, storyteller);
+        game.setWinningAlignment(Alignment.EVIL);
+        game.setStorytellers(List.of(newStoryteller));
+
+        // Execute
+        gameService.updateGame(game);
+
+        // Verify
+        PlayerStats playerStats = getStoredStatistics(player);
+        assertEquals(1, playerStats.totalGamesPlayed());
+        assertEquals(0, playerStats.totalWins());
+        assertEquals(0, getStoredStatistics(storyteller).totalGamesPlayed());
+        assertEquals(1, getStoredStatistics(newStoryteller).timesStoryteller());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testStatisticsAfterDeleteGame() {
+        // Setup
+        Player player = addTestPlayer("testStatisticsAfterDeleteGame");
+        Player storyteller = addTestPlayer("testStatisticsAfterDeleteGame_storyteller");
+        Character character = addTestCharacter("testStatisticsAfterDeleteGame");
+        Game game = addTestGame("testStatisticsAfterDeleteGame", player, character, storyteller);
+
+        // Execute
+        gameService.deleteGame(game.getId());
+
+        // Verify
+        assertEquals(new PlayerStats(player), getStoredStatistics(player));
+        assertEquals(new PlayerStats(storyteller), getStoredStatistics(storyteller));
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testStatisticsAfterConcurrentCreateGames() throws Exception {
+        // Setup
+        Player player = addTestPlayer("testStatisticsAfterConcurrentCreateGames");
+        Player storyteller = addTestPlayer("testStatisticsAfterConcurrentCreateGames_storyteller");
+        Character character = addTestCharacter("testStatisticsAfterConcurrentCreateGames");
+        List<Callable<Game>> creations = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_GAMES; i++) {
+            String testName = "testStatisticsAfterConcurrentCreateGames_" + i;
+            creations.add(() -> addTestGame(testName, player, character, storyteller));
+        }
+
+        // Execute
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_GAMES)) {
+            for (Future<Game> creation : executor.invokeAll(creations)) {
+                creation.get();
+            }
+        }
+
+        // Verify
+        PlayerStats playerStats = getStoredStatistics(player);
+        assertEquals(CONCURRENT_GAMES, playerStats.totalGamesPlayed());
+        assertEquals(Map.of(character, CONCURRENT_GAMES), playerStats.characterPlayingCounts());
+        assertEquals(CONCURRENT_GAMES, getStoredStatistics(storyteller).timesStoryteller());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testStatisticsAfterCreatePlayerAndGameInOneTransaction() {
+        // Setup
+        Player storyteller = addTestPlayer("testStatisticsAfterCreatePlayerAndGameInOneTransaction_storyteller");
+        Character character = addTestCharacter("testStatisticsAfterCreatePlayerAndGameInOneTransaction");
+
+        // Execute
+        Player player = new TransactionTemplate(transactionManager).execute(status -> {
+            Player newPlayer = addTestPlayer("testStatisticsAfterCreatePlayerAndGameInOneTransaction");
+            addTestGame("testStatisticsAfterCreatePlayerAndGameInOneTransaction", newPlayer, character, storyteller);
+            return newPlayer;
+        });
+
+        // Verify
+        assertEquals(1, getStoredStatistics(player).totalGamesPlayed());
+        assertEquals(1, getStoredStatistics(storyteller).timesStoryteller());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testStatisticsAfterDeleteCharacter() {
+        // Setup
+        Player player = addTestPlayer("testStatisticsAfterDeleteCharacter");
+        Player storyteller = addTestPlayer("testStatisticsAfterDeleteCharacter_storyteller");
+        Character character = addTestCharacter("testStatisticsAfterDeleteCharacter");
+        addTestGame("testStatisticsAfterDeleteCharacter", player, character, storyteller);
+
+        // Execute
+        characterService.deleteCharacter(character.getId());
+
+        // Verify
+        PlayerStats playerStats = getStoredStatistics(player);
+        assertEquals(1, playerStats.totalGamesPlayed());
+        assertTrue(playerStats.characterTypeCounts().isEmpty());
+        assertTrue(playerStats.characterPlayingCounts().isEmpty());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testRebuildPlayerStatistics() {
+        // Setup
+        Player player = addTestPlayer("testRebuildPlayerStatistics");
+        Player storyteller = addTestPlayer("testRebuildPlayerStatistics_storyteller");
+        Character character = addTestCharacter("testRebuildPlayerStatistics");
+        addTestGame("testRebuildPlayerStatistics", player, character, storyteller);
+        PlayerStats statsBefore = getStoredStatistics(player);
+
+        // Execute
+        statService.rebuildPlayerStatistics();
+
+        // Verify
+        assertEquals(statsBefore, getStoredStatistics(player));
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testRebuildPlayerStatisticsWithWinningPlayersAndChangedCharacters() {
+        // Setup
+        Player player1 = addTestPlayer("testRebuildPlayerStatisticsWithWinningPlayers_1");
+        Player player2 = addTestPlayer("testRebuildPlayerStatisticsWithWinningPlayers_2");
+        Player storyteller = addTestPlayer("testRebuildPlayerStatisticsWithWinningPlayers_storyteller");
+        Character townsfolk = addTestCharacter("testRebuildPlayerStatisticsWithWinningPlayers_townsfolk");
+        Character otherTownsfolk = addTestCharacter("testRebuildPlayerStatisticsWithWinningPlayers_townsfolk2");
+        Character minion = addTestCharacter("testRebuildPlayerStatisticsWithWinningPlayers_minion",
+                CharacterType.MINION);
+        GameCreationRequest request = new GameCreationRequest(
+                addTestScript("testRebuildPlayerStatisticsWithWinningPlayers"),
+                List.of(
+                        new PlayerParticipation(player1, townsfolk, Alignment.GOOD, minion, Alignment.EVIL, false),
+                        new PlayerParticipation(player2, townsfolk, Alignment.GOOD, otherTownsfolk, Alignment.GOOD,
+                                true),
+                        new PlayerParticipation(storyteller, minion, true)
+                ),
+                null,
+                "testRebuildPlayerStatisticsWithWinningPlayers_description",
+                List.of(player2, storyteller),
+                "testRebuildPlayerStatisticsWithWinningPlayers_name",
+                List.of(storyteller)
+        );
+        gameService.createGame(request);
+        PlayerStats player1StatsBefore = getStoredStatistics(player1);
+        PlayerStats player2StatsBefore = getStoredStatistics(player2);
+        PlayerStats storytellerStatsBefore = getStoredStatistics(storyteller);
+
+        // Execute
+        statService.rebuildPlayerStatistics();
+
+        // Verify
+        assertEquals(player1StatsBefore, getStoredStatistics(player1));
+        assertEquals(player2StatsBefore, getStoredStatistics(player2));
+        assertEquals(storytellerStatsBefore, getStoredStatistics(storyteller));
+        assertEquals(Map.of(CharacterType.TOWNSFOLK, 1, CharacterType.MINION, 1),
+                player1StatsBefore.characterTypeCounts());
+        assertEquals(Map.of(CharacterType.TOWNSFOLK, 1), player2StatsBefore.characterTypeCounts());
+        assertEquals(1, player2StatsBefore.totalWins());
+        assertEquals(0, storytellerStatsBefore.totalWins());
+        assertStoredStatisticsMatchRecomputation();
+    }
+
+    @Test
+    void testGetPlayerStatistics() {
+        // Setup
+        Player player = addTestPlayer("testGetPlayerStatistics");
+        Player storyteller = addTestPlayer("testGetPlayerStatistics_storyteller");
+        Character character = addTestCharacter("testGetPlayerStatistics");
+        addTestGame("testGetPlayerStatistics", player, character, storyteller);
+
+        // Execute
+        PlayerStats playerStats = statService.getPlayerStatistics(player.getId());
+
+        // Verify
+        assertEquals(getStoredStatistics(player), playerStats);
+        assertEquals(Map.of(character, 1), playerStats.characterPlayingCounts());
+    }
+
+    @Test
+    void testGetPlayerStatisticsNonExistent() {
+        assertNull(statService.getPlayerStatistics(NON_EXISTENT_ID));
+    }
+
+    private void assertStoredStatisticsMatchRecomputation() {
+        List<Game> games = new ArrayList<>();
+        gameService.forEachExportedGame(GameFilter.none(), null,
+                exportedGame -> games.add(gameService.getGame(exportedGame.id())));
+        for (PlayerStats storedStats : statService.getAllPlayerStatistics()) {
+            PlayerStats recomputedStats = new PlayerStats(storedStats.player());
+            games.forEach(recomputedStats::addGame);
+            assertEquals(recomputedStats, storedStats);
+        }
+    }
+
+    private PlayerStats getStoredStatistics(Player player) {
+        return statService.getAllPlayerStatistics().stream()
+                .filter(stats -> stats.player().equals(player))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Game addTestGame(String testName, Player player, Character character, Player storyteller) {
+        GameCreationRequest request = new GameCreationRequest(
+                addTestScript(testName),
+                List.of(new PlayerParticipation(player, character, true)),
+                Alignment.GOOD,
+                testName + "_description",
+                null,
+                testName + "_name",
+                List.of(storyteller)
+        );
+        return gameService.createGame(request);
+    }
+
+    private Script addTestScript(String testName) {
+        ScriptCreationRequest request = new ScriptCreationRequest(
+                testName + "_name",
+                testName + "_description",
+                "http://" + testName,
+                Set.of()
+        );
+        return scriptService.createScript(request);
+    }
+
+    private Character addTestCharacter(String testName) {
+        return addTestCharacter(testName, CharacterType.TOWNSFOLK);
+    }
+
+    private Character addTestCharacter(String testName, CharacterType characterType) {
+        CharacterCreationRequest request = new CharacterCreationRequest(
+                testName + "_id",
+                testName + "_name",
+                characterType,
+                "http://" + testName,
+                "http://" + testName + "/image"
+        );
+        return characterService.createCharacter(request);
+    }
+
+    private Player addTestPlayer(String testName) {
+        return playerService.createPlayer(testName + "_name");
+    }
+}
@@ -0,0 +1,116 @@
+package com.tikelespike.gamestats.businesslogic.services;
+
+import com.tikelespike.gamestats.GamestatsApplication;
+import com.tikelespike.gamestats.businesslogic.entities.AuthenticatedUser;
+import com.tikelespike.gamestats.businesslogic.entities.User;
+import com.tikelespike.gamestats.businesslogic.entities.UserCreationRequest;
+import com.tikelespike.gamestats.businesslogic.entities.UserRole;
+import com.tikelespike.gamestats.businesslogic.exceptions.InvalidDataException;
+import com.tikelespike.gamestats.businesslogic.exceptions.StaleDataException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(classes = GamestatsApplication.class)
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testGetAuthenticatedUser() {
+        // Setup
+        User user = addTestUser("testGetAuthenticatedUser");
+
+        // Execute
+        AuthenticatedUser authenticatedUser = userService.getAuthenticatedUser(user.getEmail());
+
+        // Verify
+        assertNotNull(authenticatedUser);
+        assertEquals(user.getId(), authenticatedUser.getId());
+        assertEquals(user.getEmail(), authenticatedUser.getName());
+        assertEquals(UserRole.STORYTELLER, authenticatedUser.getRole());
+        assertEquals(user.getAuthorities(), authenticatedUser.getAuthorities());
+    }
+
+    @Test
+    void testGetAuthenticatedUserNonExistent() {
+        assertNull(userService.getAuthenticatedUser("testGetAuthenticatedUserNonExistent@test.de"));
+    }
+
+    @Test
+    void testGetAuthenticatedUserCached() {
+        // Setup
+        User user = addTestUser("testGetAuthenticatedUserCached");
+        userService.getAuthenticatedUser(user.getEmail());
+        setRoleBypassingService(user, UserRole.ADMIN);
+
+        // Execute
+        AuthenticatedUser authenticatedUser = userService.getAuthenticatedUser(user.getEmail());
+
+        // Verify
+        assertNotNull(authenticatedUser);
+        assertEquals(UserRole.STORYTELLER, authenticatedUser.getRole());
+    }
+
+    @Test
+    void testGetAuthenticatedUserAfterRoleChange() throws StaleDataException {
+        // Setup
+        User user = addTestUser("testGetAuthenticatedUserAfterRoleChange");
+        userService.getAuthenticatedUser(user.getEmail());
+        User changed = userService.getUser(user.getId());
+        changed.setRole(UserRole.ADMIN);
+        userService.updateUser(changed);
+
+        // Execute
+        AuthenticatedUser authenticatedUser = userService.getAuthenticatedUser(user.getEmail());
+
+        // Verify
+        assertNotNull(authenticatedUser);
+        assertEquals(UserRole.ADMIN, authenticatedUser.getRole());
+    }
+
+    @Test
+    void testGetAuthenticatedUserAfterDeletion() {
+        // Setup
+        User user = addTestUser("testGetAuthenticatedUserAfterDeletion");
+        userService.getAuthenticatedUser(user.getEmail());
+        userService.deleteUser(user.getId());
+
+        // Execute
+        AuthenticatedUser authenticatedUser = userService.getAuthenticatedUser(user.getEmail());
+
+        // Verify
+        assertNull(authenticatedUser);
+    }
+
+    @Test
+    void testCreateUserDuplicateEmail() {
+        // Setup
+        User user = addTestUser("testCreateUserDuplicateEmail");
+        UserCreationRequest duplicate = new UserCreationRequest("Other name", user.getEmail(), "password",
+                UserRole.USER, null);
+
+        // Execute & Verify
+        assertThrows(InvalidDataException.class, () -> userService.createUser(duplicate));
+    }
+
+    private User addTestUser(String testName) {
+        return userService.createUser(new UserCreationRequest(testName, testName + "@test.de", "password",
+                UserRole.STORYTELLER, null));
+    }
+
+    // changes the role in the database without going through the service, so the cache is not evicted
+    private void setRoleBypassingService(User user, UserRole role) {
+        jdbcTemplate.update("UPDATE users SET role = ? WHERE id = ?", role.name(), user.getId());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tikelespike.gamestats.data;
+
+import com.tikelespike.gamestats.GamestatsApplication;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the foreign key columns are indexed and that lookups by foreign key can be answered by the index intended
+ * for them instead of a table scan. Note that H2 (in contrast to PostgreSQL) implicitly indexes foreign key columns
+ * and may prefer those equivalent indexes, so the lookups are planned with the expected index as the only candidate.
+ */
+@SpringBootTest(classes = GamestatsApplication.class)
+class ForeignKeyIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest
+    @CsvSource({
+            "SELECT * FROM player_participations WHERE game_id = 1 ORDER BY participant_order, "
+                    + "player_participations, idx_player_participations_game",
+            "SELECT game_id FROM player_participations WHERE player_id = 1, "
+                    + "player_participations, idx_player_participations_player",
+            "SELECT id FROM player_participations WHERE initial_character_id = 1, "
+                    + "player_participations, idx_player_participations_initial_character",
+            "SELECT id FROM player_participations WHERE end_character_id = 1, "
+                    + "player_participations, idx_player_participations_end_character",
+            "SELECT player_id FROM game_storytellers WHERE game_id = 1, "
+                    + "game_storytellers, idx_game_storytellers_game",
+            "SELECT game_id FROM game_storytellers WHERE player_id = 1, "
+                    + "game_storytellers, idx_game_storytellers_player",
+            "SELECT player_id FROM game_winning_players WHERE game_id = 1, "
+                    + "game_winning_players, idx_game_winning_players_game",
+            "SELECT game_id FROM game_winning_players WHERE player_id = 1, "
+                    + "game_winning_players, idx_game_winning_players_player",
+            "SELECT character_id FROM script_characters WHERE script_id = 1, "
+                    + "script_characters, idx_script_characters_script",
+            "SELECT script_id FROM script_characters WHERE character_id = 1, "
+                    + "script_characters, idx_script_characters_character",
+            "SELECT id FROM games WHERE script_id = 1, games, idx_games_script",
+            "SELECT player_stats_id FROM player_stats_characters WHERE character_id = 1, "
+                    + "player_stats_characters, idx_player_stats_characters_character"
+    })
+    void testLookupUsesIndex(String query, String table, String expectedIndex) {
+        // Execute
+        Set<String> indexes = findIndexes(table);
+        String hintedQuery = query.replace("FROM " + table, "FROM " + table + " USE INDEX (" + expectedIndex + ")");
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + hintedQuery, String.class).toLowerCase(Locale.ROOT);
+
+        // Verify
+        assertTrue(indexes.contains(expectedIndex), "Expected " + expectedIndex + " in " + indexes);
+        assertTrue(plan.contains(expectedIndex), "Expected a lookup by " + expectedIndex + " in " + plan);
+        assertFalse(plan.contains("tablescan"), "Expected an index lookup in " + plan);
+    }
+
+    private Set<String> findIndexes(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            Set<String> indexNames = new HashSet<>();
+            try (ResultSet indexes = metaData.getIndexInfo(null, null, tableName, false, true)) {
+                while (indexes.next()) {
+                    String indexName = indexes.getString("INDEX_NAME");
+                    if (indexName != null) {
+                        indexNames.add(indexName.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return indexNames;
+        });
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Contains tests for the database schema and queries of the data layer.
+ */
+package com.tikelespike.gamestats.data;